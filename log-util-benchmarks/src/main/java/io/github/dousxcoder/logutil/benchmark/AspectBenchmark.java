@@ -0,0 +1,117 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.aop.AopLoggerAspect;
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AopLoggerAspect#doAround}在请求线程上的开销
+ * <br/>
+ * 分发器只保留事件引用,不计入日志线程的耗时;baseline为不经过代理的直接调用
+ *
+ * @author dousx
+ * @date 2026-10-18 20:10
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AspectBenchmark {
+    private BenchService target;
+    private BenchService proxy;
+    private MockMultipartFile first;
+    private MockMultipartFile second;
+    private MockMultipartFile third;
+    private Long id = 123L;
+
+    @Setup
+    public void setup() {
+        target = new BenchService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AopLoggerAspect(new HoldingDispatcher(), Payloads.methodLogMetaCache(), new LogMetrics(),
+                new LogProperties().getSpan(), false));
+        proxy = factory.getProxy();
+        first = Payloads.file("a.png");
+        second = Payloads.file("b.pdf");
+        third = Payloads.file("c.zip");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bench/query");
+        request.addHeader("X-Forwarded-For", "10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public String baseline() {
+        return target.query(id, "abc");
+    }
+
+    @Benchmark
+    public String disabled() {
+        return proxy.disabled(id, "abc");
+    }
+
+    @Benchmark
+    public String enabled() {
+        return proxy.enabled(id, "abc");
+    }
+
+    @Benchmark
+    public long multipart() {
+        return proxy.upload(first, second, third, "upload");
+    }
+
+    /**
+     * 只保留最后一个事件,避免被JIT消除
+     */
+    static final class HoldingDispatcher implements LogDispatcher {
+        private volatile LogEvent last;
+
+        @Override
+        public boolean dispatch(LogEvent event) {
+            last = event;
+            return true;
+        }
+
+        @Override
+        public long queueDepth() {
+            return 0;
+        }
+
+        @Override
+        public long queueCapacity() {
+            return 0;
+        }
+
+        @Override
+        public int workerCount() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.annotation.AopLogger;
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 被切的方法,bench.enabled输出INFO,bench.disabled关闭
+ *
+ * @author dousx
+ * @date 2026-10-18 20:00
+ */
+public class BenchService {
+    static final String ENABLED = "bench.enabled";
+    static final String DISABLED = "bench.disabled";
+
+    public String query(Long id, String name) {
+        return name + id;
+    }
+
+    @AopLogger(describe = "query", level = LevelEnum.INFO, appointLog = ENABLED)
+    public String enabled(Long id, String name) {
+        return name + id;
+    }
+
+    @AopLogger(describe = "query", level = LevelEnum.INFO, appointLog = DISABLED)
+    public String disabled(Long id, String name) {
+        return name + id;
+    }
+
+    @AopLogger(describe = "save", level = LevelEnum.INFO, appointLog = ENABLED)
+    public Payloads.Order save(Payloads.Order order) {
+        return order;
+    }
+
+    @AopLogger(describe = "upload", level = LevelEnum.INFO, appointLog = ENABLED)
+    public long upload(MultipartFile first, MultipartFile second, MultipartFile third, String name) {
+        return first.getSize() + second.getSize() + third.getSize();
+    }
+}
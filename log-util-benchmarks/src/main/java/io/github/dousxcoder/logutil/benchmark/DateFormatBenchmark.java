@@ -0,0 +1,53 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.utils.DateFormatUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多个日志线程同时格式化时间
+ * <br/>
+ * sameSecond命中缓存的秒,everySecond每次都跨秒
+ *
+ * @author dousx
+ * @date 2026-10-18 20:20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DateFormatBenchmark {
+    private final long base = System.currentTimeMillis() / 1000 * 1000;
+    private final StringBuilder sb = new StringBuilder(32);
+    private long counter;
+
+    @Benchmark
+    public String sameSecond() {
+        return DateFormatUtil.format(base + (counter++ & 511));
+    }
+
+    @Benchmark
+    public String everySecond() {
+        return DateFormatUtil.format(base + (counter++ & 1023) * 1000);
+    }
+
+    @Benchmark
+    public int formatTo() {
+        sb.setLength(0);
+        DateFormatUtil.formatTo(sb, base + (counter++ & 511));
+        return sb.length();
+    }
+}
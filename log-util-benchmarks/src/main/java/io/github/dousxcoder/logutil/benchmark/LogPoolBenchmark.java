@@ -0,0 +1,123 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.dispatcher.AbstractLogDispatcher;
+import io.github.dousxcoder.logutil.dispatcher.ExecutorLogDispatcher;
+import io.github.dousxcoder.logutil.dispatcher.LogExecutors;
+import io.github.dousxcoder.logutil.dispatcher.RingBufferLogDispatcher;
+import io.github.dousxcoder.logutil.enums.DispatcherType;
+import io.github.dousxcoder.logutil.enums.OverflowPolicy;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.service.LogService;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.sink.LogSink;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 日志线程端到端吞吐:提交一批事件并等待全部处理完,输出为每秒事件数
+ * <br/>
+ * 输出端只序列化成NDJSON记录,不写文件;线程池拒绝的事件计入dropped
+ *
+ * @author dousx
+ * @date 2026-10-18 20:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogPoolBenchmark {
+    private static final int BATCH = 1000;
+
+    @Param({"EXECUTOR", "RING_BUFFER"})
+    private DispatcherType type;
+
+    @Param({Payloads.SMALL, Payloads.LARGE})
+    private String payload;
+
+    private LogMetrics logMetrics;
+    private AbstractLogDispatcher logDispatcher;
+    private LogEvent event;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        MethodLogMetaCache cache = Payloads.methodLogMetaCache();
+        event = Payloads.event(cache, payload);
+        logMetrics = new LogMetrics();
+        LogService logService = new LogService(logMetrics, new SerializingSink(Payloads.logJsonWriter()), null);
+        LogProperties properties = new LogProperties();
+        LogProperties.Dispatcher dispatcher = properties.getDispatcher();
+        if (DispatcherType.RING_BUFFER.equals(type)) {
+            dispatcher.setOverflowPolicy(OverflowPolicy.BLOCK);
+            logDispatcher = new RingBufferLogDispatcher(logService, logMetrics, dispatcher);
+        } else {
+            logDispatcher = new ExecutorLogDispatcher(LogExecutors.create(properties.getExecutor(), logMetrics),
+                    logService, logMetrics, dispatcher);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        ((DisposableBean) logDispatcher).destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void dispatch(Counters counters) {
+        long dropped = logMetrics.getDropped();
+        for (int i = 0; i < BATCH; i++) {
+            logDispatcher.dispatch(event);
+        }
+        while (logMetrics.getProcessed() + logMetrics.getDropped() < logMetrics.getSubmitted()) {
+            LockSupport.parkNanos(1000L);
+        }
+        counters.dropped += logMetrics.getDropped() - dropped;
+    }
+
+    /**
+     * 每批中被丢弃的事件数
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long dropped;
+    }
+
+    /**
+     * 只序列化,不输出
+     */
+    static final class SerializingSink implements LogSink {
+        private final LogJsonWriter logJsonWriter;
+        private final LongAdder chars = new LongAdder();
+
+        SerializingSink(LogJsonWriter logJsonWriter) {
+            this.logJsonWriter = logJsonWriter;
+        }
+
+        @Override
+        public void write(LogEvent event) {
+            chars.add(logJsonWriter.writeRecord(event).length());
+        }
+    }
+}
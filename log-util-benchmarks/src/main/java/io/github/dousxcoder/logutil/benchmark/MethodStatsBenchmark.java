@@ -0,0 +1,48 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.metrics.MethodStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多个请求线程同时调用同一方法时{@link MethodStats#record}的开销,按分条数对比
+ *
+ * @author dousx
+ * @date 2026-10-19 00:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class MethodStatsBenchmark {
+    @Param({"1", "4", "8"})
+    private int stripes;
+
+    private MethodStats stats;
+
+    @Setup
+    public void setup() {
+        stats = new MethodStats("bench", "", stripes);
+    }
+
+    @Benchmark
+    public void record() {
+        stats.record(ThreadLocalRandom.current().nextInt(1_000_000, 50_000_000), false);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.utils.NetworkUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NetworkUtil#getIpAddress}:直连、单层代理、多层代理
+ *
+ * @author dousx
+ * @date 2026-10-18 20:25
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkUtilBenchmark {
+    @Param({"direct", "forwarded", "chain"})
+    private String headers;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        request = new MockHttpServletRequest("GET", "/bench");
+        request.setRemoteAddr("192.168.1.20");
+        if ("forwarded".equals(headers)) {
+            request.addHeader("X-Forwarded-For", "10.0.0.1");
+        } else if ("chain".equals(headers)) {
+            request.addHeader("X-Forwarded-For", "unknown, 203.0.113.195, 70.41.3.18, 150.172.238.178");
+        }
+    }
+
+    @Benchmark
+    public String getIpAddress() {
+        return NetworkUtil.getIpAddress(request);
+    }
+}
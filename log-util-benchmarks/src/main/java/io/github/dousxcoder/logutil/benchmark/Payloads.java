@@ -0,0 +1,155 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.enums.TimeFormat;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.serializer.LogSerializers;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.summary.ArgSummarizers;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试用的参数和事件
+ *
+ * @author dousx
+ * @date 2026-10-18 20:05
+ */
+final class Payloads {
+    static final String SMALL = "small";
+    static final String LARGE = "large";
+    static final String MULTIPART = "multipart";
+
+    private Payloads() {
+    }
+
+    static MethodLogMetaCache methodLogMetaCache() {
+        LogProperties properties = new LogProperties();
+        return new MethodLogMetaCache(properties.getLimits(), properties.getSampling(), properties.getStats(),
+                ArgSummarizers.create(Collections.emptyList()));
+    }
+
+    static LogJsonWriter logJsonWriter() {
+        return new LogJsonWriter(TimeFormat.DATETIME);
+    }
+
+    static LogJsonWriter logJsonWriter(SerializerType serializerType) {
+        return new LogJsonWriter(TimeFormat.DATETIME, null, LogSerializers.create(serializerType, ObjectMapper::new), null);
+    }
+
+    /**
+     * 与切面采集到的事件相同
+     *
+     * @param payload {@link #SMALL}、{@link #LARGE}、{@link #MULTIPART}
+     */
+    static LogEvent event(MethodLogMetaCache cache, String payload) throws NoSuchMethodException {
+        MethodLogMeta meta;
+        Object[] args;
+        Object result;
+        switch (payload) {
+            case LARGE:
+                meta = cache.get(BenchService.class.getMethod("save", Order.class));
+                Order order = order(200);
+                args = new Object[]{order};
+                result = order;
+                break;
+            case MULTIPART:
+                meta = cache.get(BenchService.class.getMethod("upload", org.springframework.web.multipart.MultipartFile.class,
+                        org.springframework.web.multipart.MultipartFile.class, org.springframework.web.multipart.MultipartFile.class,
+                        String.class));
+                args = new Object[]{fileSnapshot("a.png"), fileSnapshot("b.pdf"), fileSnapshot("c.zip"), "upload"};
+                result = 3L * 64 * 1024;
+                break;
+            case SMALL:
+            default:
+                meta = cache.get(BenchService.class.getMethod("enabled", Long.class, String.class));
+                args = new Object[]{123L, "abc"};
+                result = "abc123";
+        }
+        long now = System.currentTimeMillis();
+        return LogEvent.builder()
+                .meta(meta)
+                .args(args)
+                .result(result)
+                .uri("/bench/" + payload)
+                .httpMethod("POST")
+                .ip("10.0.0.1")
+                .trace(TraceContext.of("0af7651916cd43dd8448eb211c80319c"))
+                .startTime(now)
+                .endTime(now + 3)
+                .build();
+    }
+
+    static MockMultipartFile file(String name) {
+        byte[] content = new byte[64 * 1024];
+        return new MockMultipartFile("file", name, "application/octet-stream", content);
+    }
+
+    /**
+     * 切面在请求线程上把{@code MultipartFile}转换成的摘要
+     */
+    private static Map<String, Object> fileSnapshot(String name) {
+        Map<String, Object> snapshot = new LinkedHashMap<>(8);
+        snapshot.put("name", "file");
+        snapshot.put("originalFilename", name);
+        snapshot.put("contentType", "application/octet-stream");
+        snapshot.put("size", 64L * 1024);
+        return snapshot;
+    }
+
+    static Order order(int items) {
+        Order order = new Order();
+        order.setId(20261018L);
+        order.setCustomer("客户-" + new String(new char[64]).replace('\0', 'x'));
+        order.setCreated(new Date());
+        order.setRemark(new String(new byte[2048], StandardCharsets.ISO_8859_1).replace('\0', 'r'));
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            attributes.put("attr" + i, i % 2 == 0 ? "value" + i : i);
+        }
+        order.setAttributes(attributes);
+        List<OrderItem> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            OrderItem item = new OrderItem();
+            item.setSku("SKU-" + i);
+            item.setName("商品" + i);
+            item.setQuantity(i % 5 + 1);
+            item.setPrice(new BigDecimal("19.90").add(BigDecimal.valueOf(i)));
+            list.add(item);
+        }
+        order.setItems(list);
+        return order;
+    }
+
+    @Data
+    public static class Order {
+        private Long id;
+        private String customer;
+        private Date created;
+        private String remark;
+        private Map<String, Object> attributes;
+        private List<OrderItem> items;
+    }
+
+    @Data
+    public static class OrderItem {
+        private String sku;
+        private String name;
+        private int quantity;
+        private BigDecimal price;
+    }
+}
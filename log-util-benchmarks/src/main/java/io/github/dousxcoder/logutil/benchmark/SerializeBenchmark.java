@@ -0,0 +1,64 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.codec.BinaryLogCodec;
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日志线程上的序列化:SLF4J日志行、NDJSON记录、二进制记录,分别使用fastjson、fastjson2、Jackson
+ *
+ * @author dousx
+ * @date 2026-10-18 20:15
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+    @Param({Payloads.SMALL, Payloads.LARGE, Payloads.MULTIPART})
+    private String payload;
+
+    @Param({"FASTJSON", "FASTJSON2", "JACKSON"})
+    private SerializerType serializer;
+
+    private LogJsonWriter logJsonWriter;
+    private LogEvent event;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        logJsonWriter = Payloads.logJsonWriter(serializer);
+        event = Payloads.event(Payloads.methodLogMetaCache(), payload);
+    }
+
+    @Benchmark
+    public String line() {
+        return logJsonWriter.write(event);
+    }
+
+    @Benchmark
+    public String record() {
+        return logJsonWriter.writeRecord(event);
+    }
+
+    @Benchmark
+    public byte[] binary() throws IOException {
+        return BinaryLogCodec.eventRecord(event, logJsonWriter);
+    }
+}
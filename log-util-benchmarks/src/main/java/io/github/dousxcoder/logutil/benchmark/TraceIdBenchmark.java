@@ -0,0 +1,61 @@
+package io.github.dousxcoder.logutil.benchmark;
+
+import io.github.dousxcoder.logutil.enums.TraceIdType;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多个请求线程同时生成traceId:{@link UUID#randomUUID()}与内置{@link TraceIdGenerator}
+ *
+ * @author dousx
+ * @date 2026-10-18 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class TraceIdBenchmark {
+    /**
+     * SECURE_RANDOM为原来的{@link UUID#randomUUID()},其余为{@link TraceIdType}
+     */
+    @Param({"SECURE_RANDOM", "UUID", "RANDOM", "W3C", "SNOWFLAKE"})
+    private String type;
+
+    private TraceIdGenerator generator;
+
+    @Setup
+    public void setup() {
+        if ("SECURE_RANDOM".equals(type)) {
+            generator = () -> UUID.randomUUID().toString();
+            return;
+        }
+        LogProperties.Trace properties = new LogProperties.Trace();
+        properties.setIdType(TraceIdType.valueOf(type));
+        properties.setNodeId(1);
+        generator = TraceIdGenerators.create(properties);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.dousxcoder.logutil.annotation;
 
 import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.enums.Toggle;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.LogSampling;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -86,4 +89,76 @@ public @interface AopLogger {
      */
     boolean isFormat() default false;
 
+    /**
+     * 单个字符串最大长度,超出部分截断并追加"...(n more)"
+     * <br/>
+     * 默认使用 log-util.limits.max-string-length,未配置时ignoreLongText为true则为1024;-1不限制
+     *
+     * @return 最大长度
+     */
+    int maxStringLength() default LogLimits.GLOBAL;
+
+    /**
+     * 集合、数组、Map最多输出的元素个数,超出部分以"...(n more)"代替
+     * <br/>
+     * 默认使用 log-util.limits.max-collection-elements;-1不限制
+     *
+     * @return 最大元素个数
+     */
+    int maxCollectionElements() default LogLimits.GLOBAL;
+
+    /**
+     * 最大嵌套深度
+     * <br/>
+     * 默认使用 log-util.limits.max-depth;-1不限制
+     *
+     * @return 最大深度
+     */
+    int maxDepth() default LogLimits.GLOBAL;
+
+    /**
+     * 整行最大字节数(UTF-8),超出时参数或结果以"...(more than n bytes)"代替
+     * <br/>
+     * 默认使用 log-util.limits.max-bytes;-1不限制
+     *
+     * @return 最大字节数
+     */
+    int maxBytes() default LogLimits.GLOBAL;
+
+    /**
+     * 采样比例,0~1
+     * <br/>
+     * 默认使用 log-util.sampling.ratio
+     *
+     * @return 采样比例
+     */
+    double sampleRatio() default LogSampling.GLOBAL;
+
+    /**
+     * 每秒最多记录的调用数,按方法限流
+     * <br/>
+     * 默认使用 log-util.sampling.rate-per-second;-1不限制
+     *
+     * @return 每秒调用数
+     */
+    int sampleRatePerSecond() default LogSampling.GLOBAL;
+
+    /**
+     * 耗时超过该值(毫秒)的调用不受采样影响,总是记录
+     * <br/>
+     * 默认使用 log-util.sampling.slow-threshold-millis;-1不启用
+     *
+     * @return 慢调用阈值
+     */
+    long slowThresholdMillis() default LogSampling.GLOBAL;
+
+    /**
+     * 抛出异常的调用不受采样影响,总是记录
+     * <br/>
+     * 默认使用 log-util.sampling.keep-errors
+     *
+     * @return {@link Toggle}
+     */
+    Toggle keepErrors() default Toggle.GLOBAL;
+
 }
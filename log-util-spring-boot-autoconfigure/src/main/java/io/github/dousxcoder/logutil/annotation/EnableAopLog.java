@@ -1,8 +1,14 @@
 package io.github.dousxcoder.logutil.annotation;
 
 
-import io.github.dousxcoder.logutil.autoconfiguration.TaskExecutorConfigurer;
+import io.github.dousxcoder.logutil.autoconfiguration.AsyncCompatibilityConfiguration;
+import io.github.dousxcoder.logutil.autoconfiguration.ExchangeLogFilterConfig;
+import io.github.dousxcoder.logutil.autoconfiguration.FlightRecorderConfiguration;
 import io.github.dousxcoder.logutil.autoconfiguration.LogAutoConfiguration;
+import io.github.dousxcoder.logutil.autoconfiguration.LogLevelTrackingConfiguration;
+import io.github.dousxcoder.logutil.autoconfiguration.LogMetricsConfiguration;
+import io.github.dousxcoder.logutil.autoconfiguration.MethodStatsConfiguration;
+import io.github.dousxcoder.logutil.autoconfiguration.ReactiveLogConfiguration;
 import io.github.dousxcoder.logutil.autoconfiguration.TraceIdInterceptorConfig;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.context.annotation.Import;
@@ -20,6 +26,8 @@ import java.lang.annotation.*;
 @Documented
 @Inherited
 @AutoConfigurationPackage
-@Import({LogAutoConfiguration.class, TaskExecutorConfigurer.class, TraceIdInterceptorConfig.class})
+@Import({LogAutoConfiguration.class, TraceIdInterceptorConfig.class, LogMetricsConfiguration.class,
+        LogLevelTrackingConfiguration.class, ExchangeLogFilterConfig.class, ReactiveLogConfiguration.class,
+        MethodStatsConfiguration.class, FlightRecorderConfiguration.class, AsyncCompatibilityConfiguration.class})
 public @interface EnableAopLog {
 }
@@ -0,0 +1,50 @@
+package io.github.dousxcoder.logutil.annotation;
+
+import io.github.dousxcoder.logutil.enums.MaskType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 日志中脱敏输出
+ * <br/>
+ * 可以标注在字段、getter或{@code @AopLogger}方法的参数上,优先于log-util.mask.fields中按名称配置的规则;
+ * 集合、数组逐个元素脱敏,其他非文本、数字的值整体替换
+ * <pre/>
+ * {@code
+ *     @LogMask(MaskType.MOBILE)
+ *     private String phone;
+ *
+ *     @LogMask(value = MaskType.CUSTOM, keepLast = 4)
+ *     private String cardNo;
+ * }
+ *
+ * @author dousx
+ * @date 2026-10-19 01:05
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface LogMask {
+    /**
+     * @return {@link MaskType}
+     */
+    MaskType value() default MaskType.ALL;
+
+    /**
+     * {@link MaskType#CUSTOM}时保留的前几个字符
+     *
+     * @return 字符数
+     */
+    int keepFirst() default 0;
+
+    /**
+     * {@link MaskType#CUSTOM}时保留的后几个字符
+     *
+     * @return 字符数
+     */
+    int keepLast() default 0;
+}
@@ -1,23 +1,34 @@
 package io.github.dousxcoder.logutil.aop;
 
 import io.github.dousxcoder.logutil.annotation.AopLogger;
-import io.github.dousxcoder.logutil.constant.LogConstant;
-import io.github.dousxcoder.logutil.service.LogService;
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.metrics.MethodStats;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.LogSampling;
+import io.github.dousxcoder.logutil.pojo.LogSpan;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.reactive.ReactiveRequest;
+import io.github.dousxcoder.logutil.summary.ArgSummarizers;
+import io.github.dousxcoder.logutil.trace.TraceContext;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.slf4j.MDC;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
 
-import javax.servlet.http.HttpServletRequest;
+import java.util.List;
 
 /**
  * 日志
+ * <br/>
+ * 返回Mono/Flux时在结束信号上记录发出的值和实际耗时;开启调用树时嵌套调用合并到最外层记录日志的调用中;
+ * 开启飞行记录时不输出的调用也会采集,提交为{@link LogEvent#isRecordOnly()}的事件
  *
  * @author dousx
  * @date 2022-04-22 13:46
@@ -28,7 +39,19 @@ import javax.servlet.http.HttpServletRequest;
 public class AopLoggerAspect {
 
     public static final String NAME = "cruder_aopLoggerAspect";
-    private final LogService logService;
+    /**
+     * WebFlux应用可能没有Servlet API,不存在时不加载{@link ServletRequestSnapshot}
+     */
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent("javax.servlet.http.HttpServletRequest",
+            AopLoggerAspect.class.getClassLoader());
+    private final LogDispatcher logDispatcher;
+    private final MethodLogMetaCache methodLogMetaCache;
+    private final LogMetrics logMetrics;
+    private final LogProperties.Span span;
+    /**
+     * 是否开启了飞行记录
+     */
+    private final boolean recording;
 
     /**
      * <br/>
@@ -47,29 +70,182 @@ public class AopLoggerAspect {
      */
     @Around("recordLogAspect()")
     public Object doAround(ProceedingJoinPoint point) throws Throwable {
+        MethodLogMeta meta = methodLogMetaCache.get(((MethodSignature) point.getSignature()).getMethod());
+        SpanStack spans = null;
+        // 返回Mono/Flux的方法在其他线程上执行,不参与调用树
+        if (span.isEnabled() && !ReactiveLogSupport.isReactiveType(meta.getMethod().getReturnType())) {
+            spans = SpanStack.current();
+            if (spans.isOpen()) {
+                return span(meta, point, spans);
+            }
+        }
+        boolean enabled = methodLogMetaCache.isEnabled(meta);
+        LogSampling sampling = meta.getSampling();
+        boolean sampled = enabled && meta.sample();
+        if (!recording) {
+            if (!enabled) {
+                // Logger未开启对应级别,不采集也不提交,只统计耗时
+                return measure(meta, point);
+            }
+            if (!sampled && !sampling.hasTailRule()) {
+                logMetrics.unsampled();
+                return measure(meta, point);
+            }
+        }
+        // 只写入飞行记录的调用不打开调用树,嵌套调用仍按自己的级别输出
+        if (!sampled && !(enabled && sampling.hasTailRule())) {
+            spans = null;
+        }
         Object result = null;
-        HttpServletRequest request = null;
+        Throwable error = null;
+        boolean deferred = false;
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        if (spans != null) {
+            spans.open(startNanos, span.getMaxSpans());
+        }
         try {
-            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-            ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            request = servletRequestAttributes.getRequest();
             result = point.proceed();
+            if (ReactiveLogSupport.isReactive(result)) {
+                // Mono/Flux在订阅后才执行,等结束信号再记录实际的结果和耗时;每次订阅从不可变快照各自构建事件
+                LogEvent snapshot = snapshot(meta, point, startTime, spans).build();
+                spans = null;
+                result = ReactiveLogSupport.decorate(result, meta, (value, failure, endTime, request) ->
+                        complete(meta, snapshot, null, value, failure, startTime, startNanos, endTime, enabled, sampled,
+                                request, null));
+                deferred = true;
+            }
             return result;
         } catch (Throwable e) {
             result = e.getMessage();
+            error = e;
             // 抛出,交个业务处理
             throw e;
         } finally {
-            try {
-                long endTime = System.currentTimeMillis();
-                logService.recordLog(point, result, request, startTime, endTime, MDC.get(LogConstant.TRACE_ID));
-            } catch (Exception e) {
-                if (log.isTraceEnabled()) {
-                    log.trace("记录日志出错", e);
+            if (!deferred) {
+                complete(meta, null, point, result, error, startTime, startNanos, System.currentTimeMillis(), enabled,
+                        sampled, null, spans);
+            }
+        }
+    }
+
+    /**
+     * 嵌套调用只生成{@link LogSpan},不单独判断Logger级别、采样,也不提交
+     */
+    private Object span(MethodLogMeta meta, ProceedingJoinPoint point, SpanStack spans) throws Throwable {
+        long startNanos = System.nanoTime();
+        if (!spans.enter(meta, startNanos)) {
+            return measure(meta, point);
+        }
+        boolean error = false;
+        try {
+            return point.proceed();
+        } catch (Throwable e) {
+            error = true;
+            throw e;
+        } finally {
+            long endNanos = System.nanoTime();
+            MethodStats stats = meta.getStats();
+            if (stats != null) {
+                stats.record(endNanos - startNanos, error);
+            }
+            spans.exit(span.isIncludeArgs() ? ArgSummarizers.summarize(meta.getArgSummarizers(), point.getArgs()) : null,
+                    endNanos, error);
+        }
+    }
+
+    /**
+     * 不记录日志的调用只统计耗时
+     */
+    private Object measure(MethodLogMeta meta, ProceedingJoinPoint point) throws Throwable {
+        MethodStats stats = meta.getStats();
+        if (stats == null) {
+            return point.proceed();
+        }
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = point.proceed();
+        } catch (Throwable e) {
+            stats.record(System.nanoTime() - startNanos, true);
+            throw e;
+        }
+        if (ReactiveLogSupport.isReactive(result)) {
+            return ReactiveLogSupport.measure(result, stats, startNanos);
+        }
+        stats.record(System.nanoTime() - startNanos, false);
+        return result;
+    }
+
+    /**
+     * 统计耗时,再按尾部采样规则决定是否提交;不输出的调用在开启飞行记录时只写入飞行记录
+     *
+     * @param snapshot 已采集的快照,为null时在当前线程上按point采集
+     * @param error    抛出的异常,正常结束时为null
+     * @param enabled  Logger是否开启了对应级别
+     * @param request  WebFlux请求,非响应式调用为null
+     * @param spans    最外层调用打开的调用树,在当前线程上关闭
+     */
+    private void complete(MethodLogMeta meta, LogEvent snapshot, ProceedingJoinPoint point, Object result,
+                          Throwable error, long startTime, long startNanos, long endTime, boolean enabled,
+                          boolean sampled, ReactiveRequest request, SpanStack spans) {
+        List<LogSpan> children = spans == null ? null : spans.close();
+        try {
+            MethodStats stats = meta.getStats();
+            if (stats != null) {
+                stats.record(System.nanoTime() - startNanos, error != null);
+            }
+            boolean recordOnly = !sampled && !(enabled && meta.getSampling().keep(endTime - startTime, error != null));
+            if (recordOnly) {
+                if (enabled) {
+                    logMetrics.unsampled();
                 }
+                if (!recording) {
+                    return;
+                }
+            }
+            LogEvent.LogEventBuilder builder = snapshot == null
+                    ? snapshot(meta, point, startTime, null) : snapshot.toBuilder();
+            if (spans != null) {
+                builder.spans(children).droppedSpans(spans.dropped());
             }
+            if (request != null) {
+                builder.uri(request.getUri())
+                        .httpMethod(request.getHttpMethod())
+                        .ip(request.getIp())
+                        .trace(request.getTrace());
+            }
+            logDispatcher.dispatch(builder.result(result).error(error).endTime(endTime).recordOnly(recordOnly).build());
+        } catch (Exception e) {
+            if (log.isTraceEnabled()) {
+                log.trace("记录日志出错", e);
+            }
+        }
+    }
+
+    /**
+     * 在请求线程上采集日志所需数据,日志线程只拿到不可变快照
+     *
+     * @param meta      {@link MethodLogMeta}
+     * @param point     切入点
+     * @param startTime 请求时间
+     * @param spans     调用树,不为null时在这里关闭
+     * @return 还需要设置result、endTime的{@link LogEvent.LogEventBuilder}
+     */
+    private LogEvent.LogEventBuilder snapshot(MethodLogMeta meta, ProceedingJoinPoint point, long startTime,
+                                              SpanStack spans) {
+        LogEvent.LogEventBuilder builder = LogEvent.builder()
+                .meta(meta)
+                .args(ArgSummarizers.summarize(meta.getArgSummarizers(), point.getArgs()))
+                .trace(TraceContext.capture())
+                .startTime(startTime);
+        if (spans != null) {
+            builder.spans(spans.close()).droppedSpans(spans.dropped());
+        }
+        if (SERVLET_PRESENT) {
+            ServletRequestSnapshot.fill(builder);
         }
+        return builder;
     }
 
 
@@ -0,0 +1,187 @@
+package io.github.dousxcoder.logutil.aop;
+
+import io.github.dousxcoder.logutil.metrics.MethodStats;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.reactive.ReactiveRequest;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 返回Mono/Flux的方法在结束信号(完成、异常、取消)时才记录
+ * <br/>
+ * Mono记录发出的值,Flux记录前maxCollectionElements个元素;Reactor相关代码在内部类中,没有Reactor时不会被加载
+ *
+ * @author dousx
+ * @date 2026-10-18 23:15
+ */
+final class ReactiveLogSupport {
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+            ReactiveLogSupport.class.getClassLoader());
+    /**
+     * 不限制集合元素个数时Flux最多保留的元素数,避免长时间的流一直持有元素
+     */
+    private static final int MAX_FLUX_ELEMENTS = 1000;
+
+    private ReactiveLogSupport() {
+    }
+
+    /**
+     * 结束时回调,在发出结束信号的线程上执行
+     */
+    @FunctionalInterface
+    interface Completion {
+        /**
+         * @param result  Mono的值、Flux的元素列表或异常信息
+         * @param error   异常结束时的异常,否则为null
+         * @param endTime 结束时间
+         * @param request Reactor Context中的请求快照,没有时为null
+         */
+        void complete(Object result, Throwable error, long endTime, ReactiveRequest request);
+    }
+
+    static boolean isReactive(Object result) {
+        return REACTOR_PRESENT && result != null && Reactor.isReactive(result);
+    }
+
+    /**
+     * @param returnType 方法声明的返回类型
+     * @return 是否声明返回Mono/Flux
+     */
+    static boolean isReactiveType(Class<?> returnType) {
+        return REACTOR_PRESENT && Reactor.isReactiveType(returnType);
+    }
+
+    /**
+     * @param publisher  {@link #isReactive}为true的返回值
+     * @param meta       {@link MethodLogMeta}
+     * @param completion 结束时回调,每次订阅最多一次
+     * @return 同类型的Publisher
+     */
+    static Object decorate(Object publisher, MethodLogMeta meta, Completion completion) {
+        int maxElements = meta.getLimits().getMaxCollectionElements();
+        return Reactor.decorate(publisher, maxElements == LogLimits.UNLIMITED ? MAX_FLUX_ELEMENTS : maxElements, completion);
+    }
+
+    /**
+     * 只统计耗时,每次订阅结束时记录一次
+     *
+     * @param publisher  {@link #isReactive}为true的返回值
+     * @param stats      {@link MethodStats}
+     * @param startNanos 方法开始执行的时间
+     * @return 同类型的Publisher
+     */
+    static Object measure(Object publisher, MethodStats stats, long startNanos) {
+        return Reactor.measure(publisher, stats, startNanos);
+    }
+
+    private static final class Reactor {
+        private static boolean isReactive(Object result) {
+            return result instanceof Mono || result instanceof Flux;
+        }
+
+        private static boolean isReactiveType(Class<?> returnType) {
+            return Mono.class.isAssignableFrom(returnType) || Flux.class.isAssignableFrom(returnType);
+        }
+
+        private static Object measure(Object publisher, MethodStats stats, long startNanos) {
+            Consumer<SignalType> onFinally = signal -> stats.record(System.nanoTime() - startNanos, signal == SignalType.ON_ERROR);
+            if (publisher instanceof Mono) {
+                return ((Mono<?>) publisher).doFinally(onFinally);
+            }
+            return ((Flux<?>) publisher).doFinally(onFinally);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object decorate(Object publisher, int maxElements, Completion completion) {
+            if (publisher instanceof Mono) {
+                Mono mono = (Mono) publisher;
+                return Mono.deferContextual(context -> {
+                    Signals signals = new Signals(context.getOrDefault(ReactiveRequest.class, null), -1, completion);
+                    return mono.doOnEach(signals).doOnCancel(signals::cancel);
+                });
+            }
+            Flux flux = (Flux) publisher;
+            return Flux.deferContextual(context -> {
+                Signals signals = new Signals(context.getOrDefault(ReactiveRequest.class, null), maxElements, completion);
+                return flux.doOnEach(signals).doOnCancel(signals::cancel);
+            });
+        }
+    }
+
+    /**
+     * 一次订阅的状态
+     */
+    private static final class Signals implements Consumer<Signal<?>> {
+        private final ReactiveRequest request;
+        /**
+         * Mono为-1
+         */
+        private final int maxElements;
+        private final Completion completion;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private Object value;
+        private List<Object> elements;
+        private long count;
+
+        private Signals(ReactiveRequest request, int maxElements, Completion completion) {
+            this.request = request;
+            this.maxElements = maxElements;
+            this.completion = completion;
+        }
+
+        @Override
+        public void accept(Signal<?> signal) {
+            if (signal.isOnNext()) {
+                onNext(signal.get());
+            } else if (signal.isOnError()) {
+                Throwable throwable = signal.getThrowable();
+                finish(throwable == null ? null : throwable.getMessage(), throwable);
+            } else if (signal.isOnComplete()) {
+                finish(result(), null);
+            }
+        }
+
+        private void onNext(Object next) {
+            if (maxElements < 0) {
+                value = next;
+                return;
+            }
+            if (elements == null) {
+                elements = new ArrayList<>();
+            }
+            if (count++ < maxElements) {
+                elements.add(next);
+            }
+        }
+
+        private void cancel() {
+            finish(result(), null);
+        }
+
+        private Object result() {
+            if (maxElements < 0) {
+                return value;
+            }
+            List<Object> result = elements == null ? new ArrayList<>(1) : elements;
+            if (count > maxElements) {
+                result.add(String.format("...(%d more)", count - maxElements));
+            }
+            return result;
+        }
+
+        private void finish(Object result, Throwable error) {
+            if (done.compareAndSet(false, true)) {
+                completion.complete(result, error, System.currentTimeMillis(), request);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.dousxcoder.logutil.aop;
+
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.utils.NetworkUtil;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 采集Servlet请求信息,单独成类,没有Servlet API时不会被加载
+ *
+ * @author dousx
+ * @date 2026-10-18 23:00
+ */
+final class ServletRequestSnapshot {
+    private ServletRequestSnapshot() {
+    }
+
+    static void fill(LogEvent.LogEventBuilder builder) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes) {
+            HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+            builder.uri(request.getRequestURI())
+                    .httpMethod(request.getMethod())
+                    .ip(NetworkUtil.getIpAddress(request));
+        }
+    }
+}
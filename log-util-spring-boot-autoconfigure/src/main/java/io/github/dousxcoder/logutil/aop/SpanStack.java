@@ -0,0 +1,142 @@
+package io.github.dousxcoder.logutil.aop;
+
+import io.github.dousxcoder.logutil.pojo.LogSpan;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 请求线程上正在执行的{@code @AopLogger}调用
+ * <br/>
+ * 最外层记录日志的调用打开,嵌套调用返回时生成{@link LogSpan}挂到外层调用下;
+ * 栈帧在线程内复用,只在子调用返回时分配{@link LogSpan}
+ *
+ * @author dousx
+ * @date 2026-10-19 02:55
+ */
+final class SpanStack {
+    private static final ThreadLocal<SpanStack> CURRENT = ThreadLocal.withInitial(SpanStack::new);
+
+    private Frame[] frames = new Frame[8];
+    /**
+     * 0表示没有打开
+     */
+    private int depth;
+    private long rootStartNanos;
+    private int remaining;
+    private int dropped;
+
+    private SpanStack() {
+    }
+
+    static SpanStack current() {
+        return CURRENT.get();
+    }
+
+    boolean isOpen() {
+        return depth > 0;
+    }
+
+    /**
+     * 最外层调用开始
+     *
+     * @param startNanos 开始时间
+     * @param maxSpans   最多记录的子调用数
+     */
+    void open(long startNanos, int maxSpans) {
+        rootStartNanos = startNanos;
+        remaining = maxSpans;
+        dropped = 0;
+        frame(0).reset(null, startNanos);
+        depth = 1;
+    }
+
+    /**
+     * 最外层调用结束
+     *
+     * @return 子调用,没有时为null
+     */
+    List<LogSpan> close() {
+        Frame root = frames[0];
+        List<LogSpan> children = root.children;
+        root.children = null;
+        depth = 0;
+        return children;
+    }
+
+    /**
+     * @return 最近一次打开后超出数量限制未记录的子调用数
+     */
+    int dropped() {
+        return dropped;
+    }
+
+    /**
+     * 子调用开始
+     *
+     * @return false 超出数量限制,不记录
+     */
+    boolean enter(MethodLogMeta meta, long startNanos) {
+        if (remaining <= 0) {
+            dropped++;
+            return false;
+        }
+        remaining--;
+        frame(depth++).reset(meta, startNanos);
+        return true;
+    }
+
+    /**
+     * 子调用结束,与{@link #enter}返回true的调用成对出现
+     *
+     * @param args     参数快照,不记录时为null
+     * @param endNanos 结束时间
+     * @param error    是否抛出异常
+     */
+    void exit(Object[] args, long endNanos, boolean error) {
+        Frame frame = frames[--depth];
+        LogSpan span = LogSpan.builder()
+                .meta(frame.meta)
+                .args(args)
+                .offsetNanos(frame.startNanos - rootStartNanos)
+                .durationNanos(endNanos - frame.startNanos)
+                .error(error)
+                .children(frame.children)
+                .build();
+        frame.reset(null, 0L);
+        frames[depth - 1].add(span);
+    }
+
+    private Frame frame(int index) {
+        if (index == frames.length) {
+            frames = Arrays.copyOf(frames, index * 2);
+        }
+        Frame frame = frames[index];
+        if (frame == null) {
+            frame = new Frame();
+            frames[index] = frame;
+        }
+        return frame;
+    }
+
+    private static final class Frame {
+        private MethodLogMeta meta;
+        private long startNanos;
+        private List<LogSpan> children;
+
+        private void reset(MethodLogMeta meta, long startNanos) {
+            this.meta = meta;
+            this.startNanos = startNanos;
+            this.children = null;
+        }
+
+        private void add(LogSpan span) {
+            if (children == null) {
+                children = new ArrayList<>(4);
+            }
+            children.add(span);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 早期版本的日志线程池配置带有{@code @EnableAsync},依赖它开启异步的应用可设置
+ * log-util.executor.enable-async=true 保持原行为;{@code @Async}使用Spring Boot的applicationTaskExecutor
+ *
+ * @author dousx
+ * @date 2026-10-19 04:05
+ */
+@EnableAsync
+@Configuration
+@ConditionalOnProperty(prefix = "log-util.executor", name = "enable-async", havingValue = "true")
+public class AsyncCompatibilityConfiguration {
+}
@@ -0,0 +1,37 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.exchange.ExchangeLogFilter;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 按路径记录请求和响应报文,log-util.exchange.enabled=true时注册
+ *
+ * @author dousx
+ * @date 2026-10-18 22:45
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "log-util.exchange", name = "enabled", havingValue = "true")
+public class ExchangeLogFilterConfig {
+
+    @Bean(value = ExchangeLogFilter.NAME)
+    public FilterRegistrationBean<ExchangeLogFilter> exchangeLogFilter(LogProperties logProperties,
+                                                                       LogDispatcher logDispatcher,
+                                                                       MethodLogMetaCache methodLogMetaCache,
+                                                                       LogMetrics logMetrics) {
+        LogProperties.Exchange exchange = logProperties.getExchange();
+        FilterRegistrationBean<ExchangeLogFilter> registration = new FilterRegistrationBean<>(
+                new ExchangeLogFilter(logDispatcher, methodLogMetaCache, logMetrics, exchange));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(exchange.getOrder());
+        return registration;
+    }
+}
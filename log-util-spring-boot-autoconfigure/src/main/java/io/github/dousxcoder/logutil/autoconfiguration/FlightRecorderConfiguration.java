@@ -0,0 +1,37 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.recorder.FlightRecorder;
+import io.github.dousxcoder.logutil.recorder.FlightRecorderEndpoint;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 飞行记录,log-util.recorder.enabled=true时注册
+ * <br/>
+ * 有actuator时注册flightrecorder端点
+ *
+ * @author dousx
+ * @date 2026-10-19 03:20
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "log-util.recorder", name = "enabled", havingValue = "true")
+public class FlightRecorderConfiguration {
+
+    @Bean(value = FlightRecorder.NAME)
+    public FlightRecorder flightRecorder(LogProperties logProperties, LogJsonWriter logJsonWriter) {
+        return new FlightRecorder(logJsonWriter, logProperties.getRecorder());
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+        @Bean(value = FlightRecorderEndpoint.NAME)
+        public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorder flightRecorder) {
+            return new FlightRecorderEndpoint(flightRecorder);
+        }
+    }
+}
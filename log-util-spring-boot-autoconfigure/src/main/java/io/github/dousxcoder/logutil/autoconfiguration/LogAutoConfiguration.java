@@ -2,12 +2,47 @@ package io.github.dousxcoder.logutil.autoconfiguration;
 
 import io.github.dousxcoder.logutil.annotation.EnableAopLog;
 import io.github.dousxcoder.logutil.aop.AopLoggerAspect;
-import io.github.dousxcoder.logutil.hand.TraceIdInterceptor;
+import io.github.dousxcoder.logutil.dispatcher.AbstractLogDispatcher;
+import io.github.dousxcoder.logutil.dispatcher.ExecutorLogDispatcher;
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.dispatcher.LogExecutors;
+import io.github.dousxcoder.logutil.dispatcher.RingBufferLogDispatcher;
+import io.github.dousxcoder.logutil.enums.DispatcherType;
+import io.github.dousxcoder.logutil.enums.SinkType;
+import io.github.dousxcoder.logutil.error.ExceptionFingerprints;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.recorder.FlightRecorder;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.serializer.LogMasking;
+import io.github.dousxcoder.logutil.serializer.LogSerializer;
+import io.github.dousxcoder.logutil.serializer.LogSerializers;
 import io.github.dousxcoder.logutil.service.LogService;
+import io.github.dousxcoder.logutil.sink.BinaryFileLogSink;
+import io.github.dousxcoder.logutil.sink.LogSink;
+import io.github.dousxcoder.logutil.sink.NdjsonFileLogSink;
+import io.github.dousxcoder.logutil.sink.Slf4jLogSink;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.spool.OverflowSpool;
+import io.github.dousxcoder.logutil.summary.ArgSummarizer;
+import io.github.dousxcoder.logutil.summary.ArgSummarizers;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerators;
+import io.github.dousxcoder.logutil.trace.TraceTaskDecorator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
 
 /**
  * EnableConfigurationProperties可以使LogProperties注入spring容器
@@ -16,27 +51,120 @@ import org.springframework.core.annotation.Order;
  * @date 2022-04-22 13:43
  */
 @Configuration
+@EnableConfigurationProperties(LogProperties.class)
 public class LogAutoConfiguration {
 
     /**
      * 手动注入的原因是让Bean的注入归{@link EnableAopLog}控制
      */
+    @Bean(value = LogMetrics.NAME)
+    public LogMetrics logMetrics() {
+        return new LogMetrics();
+    }
+
+    @Bean(value = LogSerializer.NAME)
+    @ConditionalOnMissingBean(LogSerializer.class)
+    public LogSerializer logSerializer(LogProperties logProperties, ObjectProvider<ObjectMapper> objectMapper) {
+        return LogSerializers.create(logProperties.getSerializer(),
+                () -> objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build()));
+    }
+
+    @Bean(value = LogJsonWriter.NAME)
+    public LogJsonWriter logJsonWriter(LogProperties logProperties, LogSerializer logSerializer) {
+        return new LogJsonWriter(logProperties.getTimeFormat(), LogMasking.create(logProperties.getMask()),
+                logSerializer, ExceptionFingerprints.create(logProperties.getErrors()));
+    }
+
+    /**
+     * 默认通过SLF4J输出,log-util.sink.type=ndjson-file、binary-file时直接写文件
+     */
+    @Bean(value = LogSink.NAME)
+    public LogSink logSink(LogProperties logProperties, LogJsonWriter logJsonWriter, LogMetrics logMetrics)
+            throws IOException {
+        Slf4jLogSink slf4jLogSink = new Slf4jLogSink(logJsonWriter, logMetrics);
+        LogProperties.Sink sink = logProperties.getSink();
+        if (SinkType.NDJSON_FILE.equals(sink.getType())) {
+            return new NdjsonFileLogSink(logJsonWriter, logMetrics, slf4jLogSink, sink);
+        }
+        if (SinkType.BINARY_FILE.equals(sink.getType())) {
+            return new BinaryFileLogSink(logJsonWriter, logMetrics, slf4jLogSink, sink);
+        }
+        return slf4jLogSink;
+    }
+
+    /**
+     * 开启log-util.recorder时由{@link FlightRecorderConfiguration}注册{@link FlightRecorder}
+     */
     @Bean(value = LogService.NAME)
-    public LogService logService() {
-        return new LogService();
+    public LogService logService(LogMetrics logMetrics, LogSink logSink, ObjectProvider<FlightRecorder> flightRecorder) {
+        return new LogService(logMetrics, logSink, flightRecorder.getIfAvailable());
+    }
+
+    /**
+     * 应用定义的{@link ArgSummarizer}按{@code @Order}排在内置实现之前
+     */
+    @Bean(value = ArgSummarizers.NAME)
+    public ArgSummarizers argSummarizers(ObjectProvider<ArgSummarizer> argSummarizers) {
+        return ArgSummarizers.create(argSummarizers.orderedStream().collect(Collectors.toList()));
+    }
+
+    @Bean(value = MethodLogMetaCache.NAME)
+    public MethodLogMetaCache methodLogMetaCache(LogProperties logProperties, ArgSummarizers argSummarizers) {
+        return new MethodLogMetaCache(logProperties.getLimits(), logProperties.getSampling(), logProperties.getStats(),
+                argSummarizers);
+    }
+
+    /**
+     * 默认提交到log-util.executor配置的执行器,log-util.dispatcher.type=ring-buffer时使用环形缓冲区
+     * <br/>
+     * 执行器由分发器持有并随分发器关闭,不注册为Bean
+     */
+    @Bean(value = LogDispatcher.NAME)
+    public LogDispatcher logDispatcher(LogProperties logProperties, LogService logService, LogMetrics logMetrics) {
+        LogProperties.Dispatcher dispatcher = logProperties.getDispatcher();
+        if (DispatcherType.RING_BUFFER.equals(dispatcher.getType())) {
+            return new RingBufferLogDispatcher(logService, logMetrics, dispatcher);
+        }
+        return new ExecutorLogDispatcher(LogExecutors.create(logProperties.getExecutor(), logMetrics), logService,
+                logMetrics, dispatcher);
+    }
+
+    /**
+     * log-util.spool.enabled=true时启用,缓冲区已满的事件写入溢出文件,空闲时回放
+     */
+    @Bean(value = OverflowSpool.NAME)
+    @ConditionalOnProperty(prefix = "log-util.spool", name = "enabled", havingValue = "true")
+    public OverflowSpool overflowSpool(LogProperties logProperties, LogDispatcher logDispatcher,
+                                       MethodLogMetaCache methodLogMetaCache, LogJsonWriter logJsonWriter,
+                                       LogMetrics logMetrics) {
+        return new OverflowSpool((AbstractLogDispatcher) logDispatcher, methodLogMetaCache, logJsonWriter,
+                logMetrics, logProperties.getSpool());
     }
 
     @Order(-10)
     @Bean(value = AopLoggerAspect.NAME)
     @ConditionalOnClass(LogService.class)
-    public AopLoggerAspect aopLoggerAspect(LogService logService) {
-        return new AopLoggerAspect(logService);
+    public AopLoggerAspect aopLoggerAspect(LogProperties logProperties, LogDispatcher logDispatcher,
+                                           MethodLogMetaCache methodLogMetaCache, LogMetrics logMetrics,
+                                           ObjectProvider<FlightRecorder> flightRecorder) {
+        return new AopLoggerAspect(logDispatcher, methodLogMetaCache, logMetrics, logProperties.getSpan(),
+                flightRecorder.getIfAvailable() != null);
     }
 
 
-    @Bean(value = TraceIdInterceptor.NAME)
-    public TraceIdInterceptor traceIdInterceptor() {
-        return new TraceIdInterceptor();
+    @Bean(value = TraceIdGenerator.NAME)
+    @ConditionalOnMissingBean(TraceIdGenerator.class)
+    public TraceIdGenerator traceIdGenerator(LogProperties logProperties) {
+        return TraceIdGenerators.create(logProperties.getTrace());
+    }
+
+    /**
+     * Spring Boot创建applicationTaskExecutor时使用唯一的TaskDecorator,应用已定义时不注册
+     */
+    @Bean(value = TraceTaskDecorator.NAME)
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TraceTaskDecorator traceTaskDecorator() {
+        return new TraceTaskDecorator();
     }
 
 }
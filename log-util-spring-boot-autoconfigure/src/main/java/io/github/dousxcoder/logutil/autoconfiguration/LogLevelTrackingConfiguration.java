@@ -0,0 +1,25 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.service.LogbackLevelListener;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Logger级别变化监听
+ * <br/>
+ * 使用logback时缓存每个方法的日志开关,级别变化时刷新;否则每次记录日志时检查级别
+ *
+ * @author dousx
+ * @date 2026-10-18 16:10
+ */
+@Configuration
+@ConditionalOnClass(name = "ch.qos.logback.classic.LoggerContext")
+public class LogLevelTrackingConfiguration {
+
+    @Bean(value = LogbackLevelListener.NAME)
+    public LogbackLevelListener logbackLevelListener(MethodLogMetaCache methodLogMetaCache) {
+        return new LogbackLevelListener(methodLogMetaCache);
+    }
+}
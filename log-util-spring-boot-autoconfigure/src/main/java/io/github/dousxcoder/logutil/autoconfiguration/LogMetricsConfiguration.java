@@ -0,0 +1,41 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.metrics.LogMetricsBinder;
+import io.github.dousxcoder.logutil.metrics.LogMetricsJmxExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 日志事件指标
+ * <br/>
+ * 有Micrometer时注册{@link LogMetricsBinder},否则注册JMX MBean
+ *
+ * @author dousx
+ * @date 2026-10-18 14:30
+ */
+@Configuration
+public class LogMetricsConfiguration {
+    private static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+
+    @Configuration
+    @ConditionalOnClass(name = METER_REGISTRY)
+    static class MicrometerConfiguration {
+        @Bean(value = LogMetricsBinder.NAME)
+        public LogMetricsBinder logMetricsBinder(LogMetrics logMetrics, LogDispatcher logDispatcher) {
+            return new LogMetricsBinder(logMetrics, logDispatcher);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnMissingClass(METER_REGISTRY)
+    static class JmxConfiguration {
+        @Bean(value = LogMetricsJmxExporter.NAME)
+        public LogMetricsJmxExporter logMetricsJmxExporter(LogMetrics logMetrics, LogDispatcher logDispatcher) {
+            return new LogMetricsJmxExporter(logMetrics, logDispatcher);
+        }
+    }
+}
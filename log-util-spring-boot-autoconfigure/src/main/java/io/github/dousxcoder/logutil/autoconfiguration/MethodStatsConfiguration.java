@@ -0,0 +1,49 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.metrics.MethodStatsBinder;
+import io.github.dousxcoder.logutil.metrics.MethodStatsEndpoint;
+import io.github.dousxcoder.logutil.metrics.MethodStatsReporter;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 按方法统计耗时分位数和异常数
+ * <br/>
+ * 有Micrometer时注册log.util.method.*指标,有actuator时注册logstats端点
+ *
+ * @author dousx
+ * @date 2026-10-19 00:30
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "log-util.stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MethodStatsConfiguration {
+
+    @Bean(value = MethodStatsReporter.NAME)
+    public MethodStatsReporter methodStatsReporter(LogProperties logProperties, MethodLogMetaCache methodLogMetaCache) {
+        LogProperties.Stats stats = logProperties.getStats();
+        return new MethodStatsReporter(methodLogMetaCache, stats.getIntervalSeconds(), stats.isLogSummary(),
+                stats.getLogger());
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerConfiguration {
+        @Bean(value = MethodStatsBinder.NAME)
+        public MethodStatsBinder methodStatsBinder(MethodStatsReporter methodStatsReporter) {
+            return new MethodStatsBinder(methodStatsReporter);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+        @Bean(value = MethodStatsEndpoint.NAME)
+        public MethodStatsEndpoint methodStatsEndpoint(MethodStatsReporter methodStatsReporter) {
+            return new MethodStatsEndpoint(methodStatsReporter);
+        }
+    }
+}
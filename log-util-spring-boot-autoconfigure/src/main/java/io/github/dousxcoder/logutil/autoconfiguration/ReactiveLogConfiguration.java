@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.autoconfiguration;
+
+import io.github.dousxcoder.logutil.reactive.TraceIdWebFilter;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebFlux应用中通过Reactor Context传递traceId和请求信息
+ *
+ * @author dousx
+ * @date 2026-10-18 23:25
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLogConfiguration {
+
+    @Bean(value = TraceIdWebFilter.NAME)
+    public TraceIdWebFilter traceIdWebFilter(TraceIdGenerator traceIdGenerator) {
+        return new TraceIdWebFilter(traceIdGenerator);
+    }
+}
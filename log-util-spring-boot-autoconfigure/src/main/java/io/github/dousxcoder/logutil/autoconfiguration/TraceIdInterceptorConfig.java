@@ -1,8 +1,10 @@
 package io.github.dousxcoder.logutil.autoconfiguration;
 
 import io.github.dousxcoder.logutil.hand.TraceIdInterceptor;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
 import org.slf4j.MDC;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -15,15 +17,25 @@ import javax.annotation.Resource;
  * %X{TRACE_ID}  其中 TRACE_ID 为自定义参数名称{@link MDC#put(String, String)}的key
  * <br/>
  * 例如:  %d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger{20}.%M [%line] - %X{TRACE_ID} %msg%n
+ * <br/>
+ * 只在Servlet应用中生效,WebFlux应用见{@link ReactiveLogConfiguration}
  *
  * @author dousx
  */
 @Configuration
-@ConditionalOnClass({TraceIdInterceptor.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TraceIdInterceptorConfig implements WebMvcConfigurer {
     @Resource(name = TraceIdInterceptor.NAME)
     private TraceIdInterceptor traceIdInterceptor;
 
+    /**
+     * static,创建时不依赖本配置类的实例,才能注入到上面的字段
+     */
+    @Bean(value = TraceIdInterceptor.NAME)
+    public static TraceIdInterceptor traceIdInterceptor(TraceIdGenerator traceIdGenerator) {
+        return new TraceIdInterceptor(traceIdGenerator);
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(traceIdInterceptor)
@@ -0,0 +1,239 @@
+package io.github.dousxcoder.logutil.codec;
+
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.pojo.RawJson;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import org.slf4j.helpers.SubstituteLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 二进制日志记录
+ * <br/>
+ * 文件头 magic(4) version(4),之后每条记录为 type(1) length(4) body:
+ * <ul>
+ *     <li>{@link #METHOD}:方法id、methodKey、classMethod、describe、级别、Logger名、参数名,同一文件中每个方法只写一次</li>
+ *     <li>{@link #EVENT}:方法id、开始/结束时间(long)、摘要标记、uri、httpMethod、ip、traceId、参数和结果、嵌套调用、
+ *     未记录的嵌套调用数、异常</li>
+ * </ul>
+ * 后来增加的字段追加在记录末尾,读取较早的记录时按没有处理
+ * 字符串为 length(4) + UTF-8,null的长度为-1;参数和结果按方法的序列化限制转成JSON后以同样方式写入,
+ * 外层日志行在读取时才由{@link LogJsonWriter}输出
+ *
+ * @author dousx
+ * @date 2026-10-18 19:10
+ */
+public final class BinaryLogCodec {
+    public static final int MAGIC = 0x4C554C42;
+    public static final int VERSION = 1;
+    public static final int FILE_HEADER = 8;
+    public static final int RECORD_HEADER = 5;
+    public static final byte METHOD = 1;
+    public static final byte EVENT = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final LogLimits UNLIMITED = LogLimits.builder()
+            .maxStringLength(LogLimits.UNLIMITED)
+            .maxCollectionElements(LogLimits.UNLIMITED)
+            .maxDepth(LogLimits.UNLIMITED)
+            .maxBytes(LogLimits.UNLIMITED)
+            .build();
+
+    private BinaryLogCodec() {
+    }
+
+    /**
+     * @return 文件头
+     */
+    public static byte[] fileHeader() {
+        return ByteBuffer.allocate(FILE_HEADER).putInt(MAGIC).putInt(VERSION).array();
+    }
+
+    /**
+     * 方法记录
+     *
+     * @param meta {@link MethodLogMeta}
+     * @return 含记录头
+     */
+    public static byte[] methodRecord(MethodLogMeta meta) throws IOException {
+        Record record = new Record(METHOD, 128);
+        DataOutputStream out = record.out;
+        out.writeInt(meta.getId());
+        writeString(out, meta.getMethodKey());
+        writeString(out, meta.getClassMethod());
+        writeString(out, meta.getDescribe());
+        writeString(out, meta.getLevel().level());
+        writeString(out, meta.getLogger().getName());
+        String[] parameterNames = meta.getParameterNames();
+        out.writeInt(parameterNames.length);
+        for (String parameterName : parameterNames) {
+            writeString(out, parameterName);
+        }
+        return record.toByteArray();
+    }
+
+    /**
+     * 事件记录,参数和结果在这里序列化
+     *
+     * @param event         {@link LogEvent}
+     * @param logJsonWriter 序列化参数和结果
+     * @return 含记录头
+     */
+    public static byte[] eventRecord(LogEvent event, LogJsonWriter logJsonWriter) throws IOException {
+        Record record = new Record(EVENT, 256);
+        record.out.writeInt(event.getMeta().getId());
+        writeEvent(record.out, event, logJsonWriter);
+        return record.toByteArray();
+    }
+
+    /**
+     * 写入事件内容,不含方法
+     */
+    public static void writeEvent(DataOutputStream out, LogEvent event, LogJsonWriter logJsonWriter) throws IOException {
+        MethodLogMeta meta = event.getMeta();
+        out.writeLong(event.getStartTime());
+        out.writeLong(event.getEndTime());
+        out.writeBoolean(event.isSummary());
+        writeString(out, event.getUri());
+        writeString(out, event.getHttpMethod());
+        writeString(out, event.getIp());
+        writeString(out, event.getTraceId());
+        Object[] args = event.getArgs();
+        out.writeInt(args == null ? NULL_LENGTH : args.length);
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                writeString(out, args[i] == null ? null : logJsonWriter.writeArg(args[i], meta, i));
+            }
+        }
+        Object result = event.getResult();
+        writeString(out, result == null ? null : logJsonWriter.writeValue(result, meta, 1));
+        writeString(out, logJsonWriter.writeSpans(event));
+        out.writeInt(event.getDroppedSpans());
+        writeString(out, logJsonWriter.writeError(event));
+    }
+
+    /**
+     * 读取方法记录内容,Logger只保留名称,序列化不再限制
+     *
+     * @param in 记录内容
+     * @return {@link MethodLogMeta}
+     */
+    public static MethodLogMeta readMethod(ByteBuffer in) {
+        int id = in.getInt();
+        String methodKey = readString(in);
+        String classMethod = readString(in);
+        String describe = readString(in);
+        LevelEnum level = LevelEnum.INFO.level().equals(readString(in)) ? LevelEnum.INFO : LevelEnum.DEBUG;
+        String logger = readString(in);
+        String[] parameterNames = new String[in.getInt()];
+        for (int i = 0; i < parameterNames.length; i++) {
+            parameterNames[i] = readString(in);
+        }
+        return MethodLogMeta.builder()
+                .id(id)
+                .methodKey(methodKey)
+                .classMethod(classMethod)
+                .describe(describe)
+                .level(level)
+                .logger(new SubstituteLogger(logger, null, true))
+                .parameterNames(parameterNames)
+                .limits(UNLIMITED)
+                .build();
+    }
+
+    /**
+     * 读取事件内容,参数、结果、嵌套调用和异常为{@link RawJson}
+     *
+     * @param in   记录内容,已读过方法
+     * @param meta {@link MethodLogMeta}
+     * @return {@link LogEvent}
+     */
+    public static LogEvent readEvent(ByteBuffer in, MethodLogMeta meta) {
+        LogEvent.LogEventBuilder builder = LogEvent.builder()
+                .meta(meta)
+                .startTime(in.getLong())
+                .endTime(in.getLong())
+                .summary(in.get() != 0)
+                .uri(readString(in))
+                .httpMethod(readString(in))
+                .ip(readString(in))
+                .trace(TraceContext.of(readString(in)));
+        int argCount = in.getInt();
+        if (argCount != NULL_LENGTH) {
+            Object[] args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                args[i] = rawJson(readString(in));
+            }
+            builder.args(args);
+        }
+        builder.result(rawJson(readString(in)));
+        if (in.hasRemaining()) {
+            builder.spans(rawJson(readString(in))).droppedSpans(in.getInt());
+        }
+        if (in.hasRemaining()) {
+            builder.error(rawJson(readString(in)));
+        }
+        return builder.build();
+    }
+
+    public static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            // 转成Buffer调用,避免链接到JDK 9+返回ByteBuffer的重载,在Java 8上NoSuchMethodError
+            ((Buffer) in).position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static RawJson rawJson(String json) {
+        return json == null ? null : new RawJson(json);
+    }
+
+    /**
+     * 先占位记录头,写完后回填长度
+     */
+    private static final class Record extends ByteArrayOutputStream {
+        private final DataOutputStream out = new DataOutputStream(this);
+
+        private Record(byte type, int size) {
+            super(size);
+            write(type);
+            count += 4;
+        }
+
+        @Override
+        public synchronized byte[] toByteArray() {
+            int length = count - RECORD_HEADER;
+            buf[1] = (byte) (length >>> 24);
+            buf[2] = (byte) (length >>> 16);
+            buf[3] = (byte) (length >>> 8);
+            buf[4] = (byte) length;
+            return super.toByteArray();
+        }
+    }
+}
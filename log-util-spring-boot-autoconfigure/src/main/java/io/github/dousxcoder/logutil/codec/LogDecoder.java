@@ -0,0 +1,87 @@
+package io.github.dousxcoder.logutil.codec;
+
+import io.github.dousxcoder.logutil.enums.Compression;
+import io.github.dousxcoder.logutil.enums.TimeFormat;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.sink.ZstdStreams;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 把二进制日志文件转换成NDJSON,输出到标准输出
+ * <br/>
+ * {@code java -cp <classpath> io.github.dousxcoder.logutil.codec.LogDecoder [--epoch-millis] file...},
+ * 按后缀识别.gz、.zst压缩文件;每行与{@code ndjson-file}输出的记录相同
+ *
+ * @author dousx
+ * @date 2026-10-18 19:25
+ */
+public final class LogDecoder {
+    private static final String EPOCH_MILLIS = "--epoch-millis";
+
+    private LogDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        TimeFormat timeFormat = TimeFormat.DATETIME;
+        List<String> files = new ArrayList<>();
+        for (String arg : args) {
+            if (EPOCH_MILLIS.equals(arg)) {
+                timeFormat = TimeFormat.EPOCH_MILLIS;
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("用法: LogDecoder [" + EPOCH_MILLIS + "] file...");
+            System.exit(2);
+        }
+        LogJsonWriter logJsonWriter = new LogJsonWriter(timeFormat);
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 64 * 1024);
+        int failed = 0;
+        for (String file : files) {
+            try (LogRecordReader reader = new LogRecordReader(open(file))) {
+                LogEvent event;
+                while ((event = reader.next()) != null) {
+                    out.write(logJsonWriter.writeRecord(event));
+                    out.write('\n');
+                }
+            } catch (IOException e) {
+                out.flush();
+                failed++;
+                if (LogRecordReader.isTruncated(e)) {
+                    System.err.println(file + ": 文件末尾的记录不完整");
+                } else {
+                    System.err.println(file + ": " + e.getMessage());
+                }
+            }
+        }
+        out.flush();
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static InputStream open(String file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(file)), 64 * 1024);
+        if (file.endsWith(Compression.GZIP.suffix())) {
+            return new GZIPInputStream(in, 64 * 1024);
+        }
+        if (file.endsWith(Compression.ZSTD.suffix())) {
+            return new BufferedInputStream(ZstdStreams.decompress(in), 64 * 1024);
+        }
+        return in;
+    }
+}
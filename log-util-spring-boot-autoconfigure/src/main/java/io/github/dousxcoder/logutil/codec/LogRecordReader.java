@@ -0,0 +1,82 @@
+package io.github.dousxcoder.logutil.codec;
+
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 顺序读取{@link BinaryLogCodec}格式的文件
+ *
+ * @author dousx
+ * @date 2026-10-18 19:20
+ */
+public class LogRecordReader implements Closeable {
+    private final DataInputStream in;
+    private final Map<Integer, MethodLogMeta> methods = new HashMap<>();
+    private byte[] body = new byte[1024];
+
+    public LogRecordReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        int magic = this.in.readInt();
+        int version = this.in.readInt();
+        if (magic != BinaryLogCodec.MAGIC || version != BinaryLogCodec.VERSION) {
+            throw new IOException(String.format("不支持的文件格式:magic=%08x,version=%d", magic, version));
+        }
+    }
+
+    /**
+     * 读取下一个事件,方法记录在内部处理
+     *
+     * @return {@link LogEvent},文件结束时返回null
+     * @throws IOException 记录不完整或引用了未定义的方法
+     */
+    public LogEvent next() throws IOException {
+        while (true) {
+            int type = in.read();
+            if (type < 0) {
+                return null;
+            }
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("记录长度错误:" + length);
+            }
+            if (body.length < length) {
+                body = new byte[Math.max(length, body.length * 2)];
+            }
+            in.readFully(body, 0, length);
+            ByteBuffer record = ByteBuffer.wrap(body, 0, length);
+            if (type == BinaryLogCodec.METHOD) {
+                MethodLogMeta meta = BinaryLogCodec.readMethod(record);
+                methods.put(meta.getId(), meta);
+            } else if (type == BinaryLogCodec.EVENT) {
+                int id = record.getInt();
+                MethodLogMeta meta = methods.get(id);
+                if (meta == null) {
+                    throw new IOException("未定义的方法id:" + id);
+                }
+                return BinaryLogCodec.readEvent(record, meta);
+            }
+            // 未知类型跳过,兼容以后新增的记录
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 文件末尾写了一半的记录
+     */
+    static boolean isTruncated(IOException e) {
+        return e instanceof EOFException;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.enums.HighWaterAction;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.spool.OverflowSpool;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 计数与高水位降级
+ * <br/>
+ * 积压超过highWaterMark后按{@link HighWaterAction}采样或只记录摘要,有控制地降级而不是等队列满了静默丢弃;
+ * 只写入飞行记录的事件不计数,积压超过highWaterMark后直接丢弃,给要输出的日志留出空间
+ *
+ * @author dousx
+ * @date 2026-10-18 13:45
+ */
+public abstract class AbstractLogDispatcher implements LogDispatcher {
+    protected final LogMetrics logMetrics;
+    private final double highWaterMark;
+    private final HighWaterAction highWaterAction;
+    private final int highWaterSampleRate;
+    private final AtomicLong highWaterCounter = new AtomicLong(0);
+    /**
+     * 配置了log-util.spool.enabled时由{@link OverflowSpool}设置
+     */
+    protected volatile OverflowSpool overflowSpool;
+
+    protected AbstractLogDispatcher(LogMetrics logMetrics, LogProperties.Dispatcher properties) {
+        this.logMetrics = logMetrics;
+        this.highWaterMark = properties.getHighWaterMark();
+        this.highWaterAction = properties.getHighWaterAction();
+        this.highWaterSampleRate = Math.max(1, properties.getHighWaterSampleRate());
+    }
+
+    @Override
+    public final boolean dispatch(LogEvent event) {
+        if (event.isRecordOnly()) {
+            return !aboveHighWaterMark() && doDispatch(event);
+        }
+        logMetrics.submitted();
+        if (highWaterAction != HighWaterAction.NONE && aboveHighWaterMark()) {
+            if (highWaterAction == HighWaterAction.SAMPLE) {
+                if (highWaterCounter.incrementAndGet() % highWaterSampleRate != 0) {
+                    logMetrics.sampledOut();
+                    return false;
+                }
+            } else {
+                event = event.toSummary();
+                logMetrics.summarized();
+            }
+        }
+        if (!doDispatch(event)) {
+            if (spool(event)) {
+                return true;
+            }
+            logMetrics.dropped();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 从溢出文件重新分发,不再计入提交数,也不触发降级
+     *
+     * @param event {@link LogEvent}
+     * @return false 缓冲区仍然已满
+     */
+    public boolean redispatch(LogEvent event) {
+        return doDispatch(event);
+    }
+
+    /**
+     * 关闭时把尚未处理的事件写入溢出文件,不等待日志线程处理完
+     */
+    public void spill() {
+    }
+
+    public void setOverflowSpool(OverflowSpool overflowSpool) {
+        this.overflowSpool = overflowSpool;
+    }
+
+    /**
+     * 写入溢出文件
+     *
+     * @return false 未配置溢出文件或溢出文件已满;只写入飞行记录的事件不写入,直接返回true
+     */
+    protected boolean spool(LogEvent event) {
+        if (event.isRecordOnly()) {
+            return true;
+        }
+        OverflowSpool spool = overflowSpool;
+        if (spool != null && spool.offer(event)) {
+            logMetrics.spooled();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 交给日志线程
+     *
+     * @param event {@link LogEvent}
+     * @return false 缓冲区已满,事件被丢弃
+     */
+    protected abstract boolean doDispatch(LogEvent event);
+
+    private boolean aboveHighWaterMark() {
+        long capacity = queueCapacity();
+        return capacity > 0 && queueDepth() >= capacity * highWaterMark;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 锁+条件变量
+ * <br/>
+ * 只有消费者确实在等待时生产者才去拿锁,空闲以外的时间发布事件不竞争锁
+ *
+ * @author dousx
+ * @date 2026-10-18 11:27
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicBoolean signalNeeded = new AtomicBoolean(false);
+
+    @Override
+    public void waitFor(BooleanSupplier ready) throws InterruptedException {
+        if (ready.getAsBoolean()) {
+            return;
+        }
+        lock.lock();
+        try {
+            // 先置位再检查,与signalAll中的先发布再检查配对,不会丢失唤醒
+            signalNeeded.set(true);
+            while (!ready.getAsBoolean()) {
+                notEmpty.await();
+                signalNeeded.set(true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        if (signalNeeded.getAndSet(false)) {
+            lock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 忙等
+ *
+ * @author dousx
+ * @date 2026-10-18 11:31
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public void waitFor(BooleanSupplier ready) throws InterruptedException {
+        while (!ready.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.LogService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 提交到{@link LogExecutors}创建的执行器,每个事件一个任务
+ * <br/>
+ * 线程池拒绝策略不抛异常,只标记{@link LogTask#rejected},由{@link AbstractLogDispatcher}写入溢出文件或计入丢弃数
+ *
+ * @author dousx
+ * @date 2026-10-18 11:22
+ */
+public class ExecutorLogDispatcher extends AbstractLogDispatcher implements DisposableBean {
+    private final TaskExecutor taskExecutor;
+    private final LogService logService;
+
+    public ExecutorLogDispatcher(TaskExecutor taskExecutor, LogService logService, LogMetrics logMetrics,
+                                 LogProperties.Dispatcher properties) {
+        super(logMetrics, properties);
+        this.taskExecutor = taskExecutor;
+        this.logService = logService;
+    }
+
+    @Override
+    protected boolean doDispatch(LogEvent event) {
+        LogTask task = new LogTask(event);
+        try {
+            taskExecutor.execute(task);
+            return !task.rejected;
+        } catch (TaskRejectedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void spill() {
+        BlockingQueue<Runnable> queue = queue();
+        if (queue == null || overflowSpool == null) {
+            return;
+        }
+        List<Runnable> tasks = new ArrayList<>(queue.size());
+        queue.drainTo(tasks);
+        for (Runnable task : tasks) {
+            if (task instanceof LogTask) {
+                if (!spool(((LogTask) task).event)) {
+                    logMetrics.dropped();
+                }
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    @Override
+    public long queueDepth() {
+        if (taskExecutor instanceof VirtualThreadTaskExecutor) {
+            return ((VirtualThreadTaskExecutor) taskExecutor).inFlight();
+        }
+        BlockingQueue<Runnable> queue = queue();
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public long queueCapacity() {
+        if (taskExecutor instanceof VirtualThreadTaskExecutor) {
+            return ((VirtualThreadTaskExecutor) taskExecutor).getMaxConcurrency();
+        }
+        BlockingQueue<Runnable> queue = queue();
+        return queue == null ? 0 : (long) queue.size() + queue.remainingCapacity();
+    }
+
+    @Override
+    public int workerCount() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor) {
+            return ((ThreadPoolTaskExecutor) taskExecutor).getPoolSize();
+        }
+        if (taskExecutor instanceof VirtualThreadTaskExecutor) {
+            return Math.max(1, ((VirtualThreadTaskExecutor) taskExecutor).inFlight());
+        }
+        return 1;
+    }
+
+    /**
+     * 执行器不是Bean,随分发器关闭
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (taskExecutor instanceof DisposableBean) {
+            ((DisposableBean) taskExecutor).destroy();
+        }
+    }
+
+    /**
+     * 线程池中的一个日志事件
+     */
+    public final class LogTask implements Runnable {
+        private final LogEvent event;
+        private boolean rejected;
+
+        private LogTask(LogEvent event) {
+            this.event = event;
+        }
+
+        /**
+         * 由线程池拒绝策略在提交线程上调用
+         */
+        public void reject() {
+            rejected = true;
+        }
+
+        @Override
+        public void run() {
+            logService.recordLog(event);
+            // 队列已空(虚拟线程只剩当前任务)视为一批结束
+            if (queueDepth() <= (taskExecutor instanceof VirtualThreadTaskExecutor ? 1 : 0)) {
+                logService.endOfBatch();
+            }
+        }
+    }
+
+    private BlockingQueue<Runnable> queue() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor) {
+            try {
+                return ((ThreadPoolTaskExecutor) taskExecutor).getThreadPoolExecutor().getQueue();
+            } catch (IllegalStateException e) {
+                // 尚未初始化
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+
+/**
+ * 日志事件分发
+ * <br/>
+ * 在请求线程上调用,把{@link LogEvent}交给日志线程处理
+ *
+ * @author dousx
+ * @date 2026-10-18 11:20
+ */
+public interface LogDispatcher {
+    String NAME = "cruder_logDispatcher";
+
+    /**
+     * 分发日志事件
+     *
+     * @param event {@link LogEvent}
+     * @return false 事件被丢弃
+     */
+    boolean dispatch(LogEvent event);
+
+    /**
+     * 等待处理的事件数
+     *
+     * @return 积压数
+     */
+    long queueDepth();
+
+    /**
+     * 最多可积压的事件数
+     *
+     * @return 容量,未知时返回0
+     */
+    long queueCapacity();
+
+    /**
+     * 日志线程数
+     *
+     * @return 线程数
+     */
+    int workerCount();
+}
@@ -0,0 +1,97 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.enums.ExecutorType;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import org.slf4j.Logger;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 创建{@link ExecutorLogDispatcher}使用的执行器
+ * <br/>
+ * 执行器由分发器持有,不注册为Bean,不影响应用自己的{@code @Async}和{@code applicationTaskExecutor}
+ *
+ * @author dousx
+ * @date 2026-10-18 20:50
+ */
+public final class LogExecutors {
+    public static final String LOG_POOL = "log-pool";
+    private static final String VIRTUAL_THREAD_PREFIX = "log-virtual-";
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(LogExecutors.class);
+
+    private LogExecutors() {
+    }
+
+    /**
+     * @param properties {@link LogProperties.Executor}
+     * @param logMetrics {@link LogMetrics}
+     * @return 已初始化的执行器,需要关闭的实现了{@code DisposableBean}
+     */
+    public static TaskExecutor create(LogProperties.Executor properties, LogMetrics logMetrics) {
+        ExecutorType type = properties.getType();
+        if (ExecutorType.CALLER_RUNS.equals(type)) {
+            return new SyncTaskExecutor();
+        }
+        if (ExecutorType.VIRTUAL.equals(type)) {
+            ExecutorService executorService = virtualThreadExecutor();
+            if (executorService != null) {
+                return new VirtualThreadTaskExecutor(executorService,
+                        Math.max(1, properties.getQueueCapacity() + properties.getMaxPoolSize()),
+                        properties.getAwaitTerminationSeconds());
+            }
+            log.warn("当前JDK不支持虚拟线程:{},改用线程池", System.getProperty("java.version"));
+        }
+        return pool(properties, logMetrics);
+    }
+
+    /**
+     * 日志专用线程池,拒绝策略:不抛异常,交给分发器写入溢出文件或计入丢弃数
+     */
+    private static ThreadPoolTaskExecutor pool(LogProperties.Executor properties, LogMetrics logMetrics) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(properties.getCorePoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(Math.max(properties.getCorePoolSize(), properties.getMaxPoolSize()));
+        threadPoolTaskExecutor.setQueueCapacity(properties.getQueueCapacity());
+        threadPoolTaskExecutor.setKeepAliveSeconds(properties.getKeepAliveSeconds());
+        threadPoolTaskExecutor.setThreadNamePrefix(LOG_POOL + "-");
+        threadPoolTaskExecutor.setRejectedExecutionHandler((r, poolExecutor) -> {
+            if (r instanceof ExecutorLogDispatcher.LogTask) {
+                ((ExecutorLogDispatcher.LogTask) r).reject();
+            } else {
+                logMetrics.dropped();
+            }
+        });
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        threadPoolTaskExecutor.setAwaitTerminationSeconds(properties.getAwaitTerminationSeconds());
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
+
+    /**
+     * 编译目标为JDK 8,运行时通过反射创建 Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(...).factory())
+     *
+     * @return 不支持时返回null
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, VIRTUAL_THREAD_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // JDK 19/20未开启预览特性时ofVirtual会抛出UnsupportedOperationException
+            return null;
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.enums.OverflowPolicy;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.LogService;
+import io.github.dousxcoder.logutil.utils.NonBlockingThreads;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 多生产者环形缓冲区
+ * <br/>
+ * 请求线程CAS领取序号后直接写入预分配的槽位,不经过阻塞队列的锁,也不为每个事件创建Runnable/Future;
+ * 消费者按序号取模分片,每个消费者只处理自己的序号,一次最多连续处理batchSize个事件
+ *
+ * @author dousx
+ * @date 2026-10-18 11:40
+ */
+public class RingBufferLogDispatcher extends AbstractLogDispatcher implements DisposableBean {
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(RingBufferLogDispatcher.class);
+    private static final String THREAD_NAME_PREFIX = "log-ring-";
+
+    private final LogService logService;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int batchSize;
+    private final long awaitTerminationMillis;
+
+    private final int mask;
+    private final Slot[] slots;
+    /**
+     * 下一个待领取的序号
+     */
+    private final AtomicLong cursor = new AtomicLong(0);
+    /**
+     * 生产者缓存的消费进度下限,减少读取各消费者序号的次数
+     */
+    private final AtomicLong gatingCache = new AtomicLong(0);
+    private final AtomicLong overflowCounter = new AtomicLong(0);
+    private final Consumer[] consumers;
+    private volatile boolean running = true;
+    /**
+     * 消费者立即退出,剩余事件由{@link #spill()}写入溢出文件
+     */
+    private volatile boolean abandon;
+
+    public RingBufferLogDispatcher(LogService logService, LogMetrics logMetrics, LogProperties.Dispatcher properties) {
+        super(logMetrics, properties);
+        this.logService = logService;
+        this.waitStrategy = WaitStrategy.of(properties.getWaitStrategy());
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.sampleRate = Math.max(1, properties.getSampleRate());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.awaitTerminationMillis = TimeUnit.SECONDS.toMillis(properties.getAwaitTerminationSeconds());
+        int capacity = ceilingPowerOfTwo(Math.max(2, properties.getBufferSize()));
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        int consumerCount = Math.max(1, Math.min(properties.getConsumers(), capacity));
+        this.consumers = new Consumer[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            consumers[i] = new Consumer(i, consumerCount);
+        }
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+    }
+
+    @Override
+    protected boolean doDispatch(LogEvent event) {
+        if (!running) {
+            return false;
+        }
+        long sequence = tryClaim();
+        if (sequence < 0) {
+            // 事件循环线程上不等待,按DROP处理
+            if (NonBlockingThreads.isCurrentThreadNonBlocking() || !waitOnOverflow()) {
+                return false;
+            }
+            sequence = claim();
+            if (sequence < 0) {
+                return false;
+            }
+        }
+        Slot slot = slots[(int) sequence & mask];
+        slot.event = event;
+        slot.sequence = sequence;
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    @Override
+    public long queueDepth() {
+        return Math.max(0, cursor.get() - minConsumerSequence());
+    }
+
+    @Override
+    public long queueCapacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public int workerCount() {
+        return consumers.length;
+    }
+
+    private boolean waitOnOverflow() {
+        switch (overflowPolicy) {
+            case BLOCK:
+                return true;
+            case SAMPLE:
+                return overflowCounter.incrementAndGet() % sampleRate == 0;
+            case DROP:
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 领取序号,缓冲区满时返回-1
+     */
+    private long tryClaim() {
+        long capacity = mask + 1;
+        while (true) {
+            long current = cursor.get();
+            long wrapPoint = current - capacity;
+            long gating = gatingCache.get();
+            if (wrapPoint >= gating) {
+                gating = minConsumerSequence();
+                gatingCache.lazySet(gating);
+                if (wrapPoint >= gating) {
+                    return -1;
+                }
+            }
+            if (cursor.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 自旋等待直到领取到序号,关闭时返回-1
+     */
+    private long claim() {
+        long sequence;
+        while ((sequence = tryClaim()) < 0) {
+            if (!running) {
+                return -1;
+            }
+            LockSupport.parkNanos(1000L);
+        }
+        return sequence;
+    }
+
+    private long minConsumerSequence() {
+        long min = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            min = Math.min(min, consumer.sequence.get());
+        }
+        return min;
+    }
+
+    @Override
+    public void spill() {
+        if (overflowSpool == null) {
+            return;
+        }
+        running = false;
+        abandon = true;
+        waitStrategy.signalAll();
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join(awaitTerminationMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (consumer.thread.isAlive()) {
+                // 仍在处理,不与其争用槽位
+                return;
+            }
+        }
+        long end = cursor.get();
+        for (Consumer consumer : consumers) {
+            for (long next = consumer.sequence.get(); next < end; next += consumer.step) {
+                Slot slot = slots[(int) next & mask];
+                if (slot.sequence != next) {
+                    // 已领取序号但尚未写入
+                    continue;
+                }
+                LogEvent event = slot.event;
+                slot.event = null;
+                if (event != null && !spool(event)) {
+                    logMetrics.dropped();
+                }
+            }
+            consumer.sequence.set(end);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        waitStrategy.signalAll();
+        long deadline = System.currentTimeMillis() + awaitTerminationMillis;
+        for (Consumer consumer : consumers) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining > 0) {
+                consumer.thread.join(remaining);
+            }
+            if (consumer.thread.isAlive()) {
+                consumer.thread.interrupt();
+            }
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+
+    /**
+     * 预分配的槽位,{@link #sequence}等于序号时{@link #event}可读
+     */
+    private static final class Slot {
+        private LogEvent event;
+        private volatile long sequence = -1;
+    }
+
+    /**
+     * 消费者,只处理序号 % consumerCount == index 的事件
+     */
+    private final class Consumer implements Runnable {
+        private final int step;
+        /**
+         * 下一个待处理的序号,小于它的本分片事件都已处理完毕
+         */
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private final BooleanSupplier ready;
+
+        Consumer(int index, int step) {
+            this.step = step;
+            this.sequence = new AtomicLong(index);
+            this.ready = () -> !running || isPublished(sequence.get());
+            this.thread = new Thread(this, THREAD_NAME_PREFIX + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get();
+            while (true) {
+                int processed = 0;
+                while (processed < batchSize && !abandon && isPublished(next)) {
+                    Slot slot = slots[(int) next & mask];
+                    LogEvent event = slot.event;
+                    slot.event = null;
+                    handle(event);
+                    next += step;
+                    processed++;
+                }
+                if (processed > 0) {
+                    sequence.lazySet(next);
+                    logService.endOfBatch();
+                    continue;
+                }
+                if (abandon) {
+                    return;
+                }
+                if (!running && next >= cursor.get()) {
+                    return;
+                }
+                try {
+                    waitStrategy.waitFor(ready);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (!running && !isPublished(next) && next >= cursor.get()) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isPublished(long sequence) {
+            return slots[(int) sequence & mask].sequence == sequence;
+        }
+
+        private void handle(LogEvent event) {
+            try {
+                logService.recordLog(event);
+            } catch (Throwable e) {
+                if (log.isTraceEnabled()) {
+                    log.trace("记录日志出错", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每个任务一个虚拟线程
+ * <br/>
+ * 虚拟线程没有队列,用信号量限制同时处理的任务数,超出时与线程池队列已满一样拒绝
+ *
+ * @author dousx
+ * @date 2026-10-18 20:45
+ */
+public class VirtualThreadTaskExecutor implements TaskExecutor, DisposableBean {
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int awaitTerminationSeconds;
+
+    VirtualThreadTaskExecutor(ExecutorService executorService, int maxConcurrency, int awaitTerminationSeconds) {
+        this.executorService = executorService;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("虚拟线程执行器已达到最大并发数:" + maxConcurrency);
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new TaskRejectedException("虚拟线程执行器已关闭", e);
+        }
+    }
+
+    /**
+     * @return 正在处理的任务数
+     */
+    public int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * @return 最大并发数
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import io.github.dousxcoder.logutil.enums.WaitStrategyType;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 环形缓冲区消费者等待策略
+ *
+ * @author dousx
+ * @date 2026-10-18 11:25
+ */
+public interface WaitStrategy {
+
+    /**
+     * 消费者没有可处理的事件时调用,直到{@code ready}返回true
+     *
+     * @param ready 是否有事件可处理(或需要退出)
+     * @throws InterruptedException 中断
+     */
+    void waitFor(BooleanSupplier ready) throws InterruptedException;
+
+    /**
+     * 生产者发布事件后调用,唤醒阻塞的消费者
+     */
+    void signalAll();
+
+    static WaitStrategy of(WaitStrategyType type) {
+        switch (type) {
+            case BUSY_SPIN:
+                return new BusySpinWaitStrategy();
+            case YIELDING:
+                return new YieldingWaitStrategy();
+            case BLOCKING:
+            default:
+                return new BlockingWaitStrategy();
+        }
+    }
+}
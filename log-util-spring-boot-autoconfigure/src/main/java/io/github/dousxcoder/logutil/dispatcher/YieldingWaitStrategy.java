@@ -0,0 +1,32 @@
+package io.github.dousxcoder.logutil.dispatcher;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 先自旋,之后让出CPU
+ *
+ * @author dousx
+ * @date 2026-10-18 11:30
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public void waitFor(BooleanSupplier ready) throws InterruptedException {
+        int counter = SPIN_TRIES;
+        while (!ready.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (counter > 0) {
+                --counter;
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
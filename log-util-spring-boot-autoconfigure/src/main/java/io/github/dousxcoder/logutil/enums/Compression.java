@@ -0,0 +1,33 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 滚动后的文件压缩方式
+ *
+ * @author dousx
+ * @date 2026-10-18 17:25
+ */
+public enum Compression {
+    /**
+     * 不压缩
+     */
+    NONE(""),
+    /**
+     * gzip
+     */
+    GZIP(".gz"),
+    /**
+     * zstd,需要引入com.github.luben:zstd-jni
+     */
+    ZSTD(".zst"),
+    ;
+
+    Compression(String suffix) {
+        this.suffix = suffix;
+    }
+
+    private final String suffix;
+
+    public String suffix() {
+        return suffix;
+    }
+}
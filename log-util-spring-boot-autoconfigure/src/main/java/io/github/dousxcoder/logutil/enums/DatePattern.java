@@ -5,6 +5,7 @@ package io.github.dousxcoder.logutil.enums;
  * @date 2022-07-02 14:44
  */
 public enum DatePattern {
+    NORM_DATETIME_PATTERN("yyyy-MM-dd HH:mm:ss"),
     NORM_DATETIME_MS_PATTERN("yyyy-MM-dd HH:mm:ss.SSS"),;
 
     DatePattern(String pattern) {
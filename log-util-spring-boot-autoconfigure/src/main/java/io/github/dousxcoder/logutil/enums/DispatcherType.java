@@ -0,0 +1,19 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 日志事件分发方式
+ *
+ * @author dousx
+ * @date 2026-10-18 11:02
+ */
+public enum DispatcherType {
+    /**
+     * 提交到执行器,每个事件一个任务,见{@link ExecutorType}
+     */
+    EXECUTOR,
+    /**
+     * 预分配的多生产者环形缓冲区,消费者批量处理
+     */
+    RING_BUFFER,
+    ;
+}
@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * {@link DispatcherType#EXECUTOR}使用的执行器
+ *
+ * @author dousx
+ * @date 2026-10-18 20:40
+ */
+public enum ExecutorType {
+    /**
+     * 有界线程池
+     */
+    POOL,
+    /**
+     * 每个事件一个虚拟线程,需要JDK 21+,否则退回{@link #POOL}
+     */
+    VIRTUAL,
+    /**
+     * 在请求线程上同步处理,用于测试
+     */
+    CALLER_RUNS,
+    ;
+}
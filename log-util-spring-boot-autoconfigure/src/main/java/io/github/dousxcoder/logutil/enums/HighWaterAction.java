@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 积压超过高水位后的降级方式
+ *
+ * @author dousx
+ * @date 2026-10-18 13:40
+ */
+public enum HighWaterAction {
+    /**
+     * 不降级
+     */
+    NONE,
+    /**
+     * 每highWaterSampleRate个事件保留一个
+     */
+    SAMPLE,
+    /**
+     * 只记录摘要,不序列化参数和结果
+     */
+    SUMMARY,
+    ;
+}
@@ -0,0 +1,57 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 脱敏方式
+ * <br/>
+ * 保留首尾若干字符,其余替换为*;值的长度不超过保留字符数时全部替换
+ *
+ * @author dousx
+ * @date 2026-10-19 01:00
+ */
+public enum MaskType {
+    /**
+     * 整体替换为******,不暴露长度
+     */
+    ALL(0, 0),
+    /**
+     * 姓名,保留第一个字
+     */
+    CHINESE_NAME(1, 0),
+    /**
+     * 身份证号,保留前3位和后4位
+     */
+    ID_CARD(3, 4),
+    /**
+     * 手机号,保留前3位和后4位
+     */
+    MOBILE(3, 4),
+    /**
+     * 银行卡号,保留前4位和后4位
+     */
+    BANK_CARD(4, 4),
+    /**
+     * 邮箱,保留第一个字符和@之后的部分
+     */
+    EMAIL(1, 0),
+    /**
+     * 按keepFirst、keepLast保留
+     */
+    CUSTOM(0, 0),
+    ;
+
+    private final int keepFirst;
+    private final int keepLast;
+
+    MaskType(int keepFirst, int keepLast) {
+        this.keepFirst = keepFirst;
+        this.keepLast = keepLast;
+    }
+
+    public int keepFirst() {
+        return keepFirst;
+    }
+
+    public int keepLast() {
+        return keepLast;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 环形缓冲区写满时的处理策略
+ *
+ * @author dousx
+ * @date 2026-10-18 11:05
+ */
+public enum OverflowPolicy {
+    /**
+     * 丢弃
+     */
+    DROP,
+    /**
+     * 阻塞请求线程直到有空位
+     */
+    BLOCK,
+    /**
+     * 每sampleRate个溢出事件阻塞等待一个,其余丢弃
+     */
+    SAMPLE,
+    ;
+}
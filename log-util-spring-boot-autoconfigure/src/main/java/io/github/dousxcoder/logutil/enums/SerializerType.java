@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 参数、结果的序列化方式
+ *
+ * @author dousx
+ * @date 2026-10-19 02:20
+ */
+public enum SerializerType {
+    /**
+     * fastjson 1.x
+     */
+    FASTJSON,
+    /**
+     * fastjson2,需要引入com.alibaba.fastjson2:fastjson2,否则退回fastjson
+     */
+    FASTJSON2,
+    /**
+     * 应用的Jackson ObjectMapper
+     */
+    JACKSON,
+    ;
+}
@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 日志输出方式
+ *
+ * @author dousx
+ * @date 2026-10-18 17:25
+ */
+public enum SinkType {
+    /**
+     * 通过SLF4J Logger输出
+     */
+    SLF4J,
+    /**
+     * 直接写NDJSON文件,不经过日志框架
+     */
+    NDJSON_FILE,
+    /**
+     * 直接写二进制文件,由{@code LogDecoder}转换成NDJSON
+     */
+    BINARY_FILE,
+    ;
+}
@@ -0,0 +1,19 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * requestTime、finishTime的输出格式
+ *
+ * @author dousx
+ * @date 2026-10-18 16:30
+ */
+public enum TimeFormat {
+    /**
+     * {@link DatePattern#NORM_DATETIME_MS_PATTERN}
+     */
+    DATETIME,
+    /**
+     * 毫秒时间戳,输出为数字
+     */
+    EPOCH_MILLIS,
+    ;
+}
@@ -0,0 +1,31 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 注解中的开关,未指定时使用全局配置
+ *
+ * @author dousx
+ * @date 2026-10-19 03:45
+ */
+public enum Toggle {
+    /**
+     * 使用全局配置
+     */
+    GLOBAL,
+    /**
+     * 开启
+     */
+    ON,
+    /**
+     * 关闭
+     */
+    OFF,
+    ;
+
+    /**
+     * @param global 全局配置
+     * @return 是否开启
+     */
+    public boolean isEnabled(boolean global) {
+        return this == GLOBAL ? global : this == ON;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 请求未携带traceId时生成的格式
+ *
+ * @author dousx
+ * @date 2026-10-18 21:30
+ */
+public enum TraceIdType {
+    /**
+     * UUID格式(36位),随机数取自ThreadLocalRandom,不经过共享的SecureRandom
+     */
+    UUID,
+    /**
+     * 128位随机数,32位小写十六进制
+     */
+    RANDOM,
+    /**
+     * 可作为W3C traceparent的trace-id:前8位为秒级时间戳,后24位随机
+     */
+    W3C,
+    /**
+     * 64位雪花ID,16位小写十六进制:41位毫秒时间、10位节点、12位序号,按时间递增
+     */
+    SNOWFLAKE,
+    ;
+}
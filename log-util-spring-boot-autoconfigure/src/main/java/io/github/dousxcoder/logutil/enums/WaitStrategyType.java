@@ -0,0 +1,23 @@
+package io.github.dousxcoder.logutil.enums;
+
+/**
+ * 环形缓冲区消费者等待策略
+ *
+ * @author dousx
+ * @date 2026-10-18 11:04
+ */
+public enum WaitStrategyType {
+    /**
+     * 锁+条件变量,空闲时不占CPU
+     */
+    BLOCKING,
+    /**
+     * 自旋后让出CPU,延迟与CPU占用折中
+     */
+    YIELDING,
+    /**
+     * 忙等,延迟最低,独占一个核
+     */
+    BUSY_SPIN,
+    ;
+}
@@ -0,0 +1,168 @@
+package io.github.dousxcoder.logutil.error;
+
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import lombok.Value;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 异常指纹
+ * <br/>
+ * 按异常类型和栈顶的类名、方法名(含cause)计算指纹,不含message和行号;每个周期内同一指纹只输出一次完整堆栈,
+ * 之后只输出指纹和出现次数。指纹按哈希放入固定大小的槽,冲突时替换,不需要加锁也不会无限增长;
+ * 周期按时钟对齐,进入新周期的指纹视为首次出现
+ *
+ * @author dousx
+ * @date 2026-10-19 03:00
+ */
+public class ExceptionFingerprints {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+    /**
+     * cause链最多参与计算的层数,也用于避免循环引用
+     */
+    private static final int MAX_CAUSES = 8;
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final int frames;
+    private final long resetIntervalMillis;
+    private final int maxStackTraceLength;
+
+    public ExceptionFingerprints(LogProperties.Errors properties) {
+        int capacity = Integer.highestOneBit(Math.max(16, properties.getCapacity()) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.frames = Math.max(1, properties.getFrames());
+        this.resetIntervalMillis = properties.getResetIntervalSeconds() > 0
+                ? TimeUnit.SECONDS.toMillis(properties.getResetIntervalSeconds()) : -1L;
+        this.maxStackTraceLength = properties.getMaxStackTraceLength();
+    }
+
+    /**
+     * @return log-util.errors.enabled=false时返回null
+     */
+    public static ExceptionFingerprints create(LogProperties.Errors properties) {
+        return properties.isEnabled() ? new ExceptionFingerprints(properties) : null;
+    }
+
+    /**
+     * 记录一次出现,在日志线程上输出时调用
+     *
+     * @param error 异常
+     * @return {@link Occurrence}
+     */
+    public Occurrence record(Throwable error) {
+        long hash = fingerprint(error);
+        long epoch = resetIntervalMillis > 0 ? System.currentTimeMillis() / resetIntervalMillis : 0L;
+        int index = (int) (hash ^ hash >>> 32) & mask;
+        while (true) {
+            Slot slot = slots.get(index);
+            if (slot != null && slot.hash == hash && slot.epoch == epoch) {
+                return new Occurrence(error.getClass().getName(), hex(hash), slot.count.incrementAndGet(), null);
+            }
+            if (slots.compareAndSet(index, slot, new Slot(hash, epoch))) {
+                return new Occurrence(error.getClass().getName(), hex(hash), 1L, stackTrace(error));
+            }
+        }
+    }
+
+    /**
+     * 只计算指纹和完整堆栈,不计数,也不占用周期内的首次出现;用于写入飞行记录等不输出的事件
+     *
+     * @param error 异常
+     * @return {@link Occurrence},count为0
+     */
+    public Occurrence describe(Throwable error) {
+        return new Occurrence(error.getClass().getName(), hex(fingerprint(error)), 0L, stackTrace(error));
+    }
+
+    private long fingerprint(Throwable error) {
+        long hash = FNV_OFFSET;
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSES; depth++) {
+            hash = hash(hash, current.getClass().getName());
+            StackTraceElement[] stackTrace = current.getStackTrace();
+            for (int i = 0; i < stackTrace.length && i < frames; i++) {
+                hash = hash(hash, stackTrace[i].getClassName());
+                hash = hash(hash, stackTrace[i].getMethodName());
+            }
+            Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0, len = value.length(); i < len; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // 分隔相邻的名称
+        hash ^= '/';
+        return hash * FNV_PRIME;
+    }
+
+    private String stackTrace(Throwable error) {
+        StringWriter writer = new StringWriter(1024);
+        error.printStackTrace(new PrintWriter(writer));
+        StringBuffer buffer = writer.getBuffer();
+        if (maxStackTraceLength >= 0 && buffer.length() > maxStackTraceLength) {
+            int more = buffer.length() - maxStackTraceLength;
+            buffer.setLength(maxStackTraceLength);
+            buffer.append("...(").append(more).append(" more)");
+        }
+        return buffer.toString();
+    }
+
+    private static String hex(long value) {
+        char[] chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 一次出现
+     */
+    @Value
+    public static class Occurrence {
+        /**
+         * 异常类名
+         */
+        String type;
+
+        /**
+         * 指纹,16位十六进制
+         */
+        String fingerprint;
+
+        /**
+         * 本周期内的出现次数,包括这一次;{@link #describe}返回0
+         */
+        long count;
+
+        /**
+         * 完整堆栈,只在本周期首次出现时有值
+         */
+        String stackTrace;
+    }
+
+    private static final class Slot {
+        private final long hash;
+        private final long epoch;
+        private final AtomicLong count = new AtomicLong(1L);
+
+        private Slot(long hash, long epoch) {
+            this.hash = hash;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 报文截取缓冲区池
+ * <br/>
+ * 缓冲区大小固定为截取上限,总数不超过maxBuffers,占用内存有上界;用完时不再截取,请求照常处理
+ *
+ * @author dousx
+ * @date 2026-10-18 22:10
+ */
+public class BodyBufferPool {
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    public BodyBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+    }
+
+    /**
+     * @return 缓冲区,已用完时返回null
+     */
+    public byte[] acquire() {
+        byte[] buffer = free.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        for (int count = created.get(); count < maxBuffers; count = created.get()) {
+            if (created.compareAndSet(count, count + 1)) {
+                return new byte[bufferSize];
+            }
+        }
+        return null;
+    }
+
+    public void release(byte[] buffer) {
+        free.offer(buffer);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * 截取流经的报文,只保留前{@link BodyBufferPool#getBufferSize()}个字节,之后只计数
+ * <br/>
+ * 第一次写入时才从池中取缓冲区,非文本类型不截取
+ *
+ * @author dousx
+ * @date 2026-10-18 22:15
+ */
+class BodyCapture {
+    private final BodyBufferPool pool;
+    private final Supplier<String> contentType;
+    private boolean started;
+    private byte[] buffer;
+    private int count;
+    /**
+     * 超出缓冲区未截取的字节数,经Writer写出时为字符数
+     */
+    private long more;
+    /**
+     * 已决定不截取:非文本或缓冲区已用完
+     */
+    private CapturedBody.Skipped skipped;
+    private CharsetEncoder encoder;
+
+    BodyCapture(BodyBufferPool pool, Supplier<String> contentType) {
+        this.pool = pool;
+        this.contentType = contentType;
+    }
+
+    void write(int b) {
+        start();
+        if (hasRoom()) {
+            buffer[count++] = (byte) b;
+        } else {
+            more++;
+        }
+    }
+
+    void write(byte[] b, int off, int len) {
+        if (len <= 0) {
+            return;
+        }
+        start();
+        int n = hasRoom() ? Math.min(len, buffer.length - count) : 0;
+        if (n > 0) {
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+        }
+        more += len - n;
+    }
+
+    /**
+     * 经Writer写出的字符,按UTF-8编码后截取,与容器实际使用的字符集无关
+     *
+     * @param chars 字符
+     */
+    void write(CharBuffer chars) {
+        int len = chars.remaining();
+        if (len <= 0) {
+            return;
+        }
+        start();
+        if (hasRoom()) {
+            if (encoder == null) {
+                encoder = StandardCharsets.UTF_8.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            }
+            ByteBuffer out = ByteBuffer.wrap(buffer, count, buffer.length - count);
+            encoder.encode(chars, out, false);
+            count = out.position();
+        }
+        more += chars.remaining();
+    }
+
+    /**
+     * 不再截取时只计数
+     *
+     * @param len 字符数
+     */
+    void skip(int len) {
+        more += len;
+    }
+
+    /**
+     * 写入前判断,不再截取时只计数,不必包装写入的数据
+     *
+     * @return 是否还需要数据
+     */
+    boolean capturing() {
+        return !started || hasRoom();
+    }
+
+    private boolean hasRoom() {
+        return buffer != null && count < buffer.length;
+    }
+
+    /**
+     * 响应reset后重新截取
+     */
+    void reset() {
+        count = 0;
+        more = 0;
+        if (encoder != null) {
+            encoder.reset();
+        }
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        if (!isText(contentType.get())) {
+            skipped = CapturedBody.Skipped.BINARY;
+            return;
+        }
+        buffer = pool.acquire();
+        if (buffer == null) {
+            skipped = CapturedBody.Skipped.POOL_EXHAUSTED;
+        }
+    }
+
+    /**
+     * 复制已截取的部分并归还缓冲区,之后不能再写入
+     *
+     * @return 没有报文时返回null
+     */
+    CapturedBody finish() {
+        try {
+            if (count == 0 && more == 0) {
+                return null;
+            }
+            if (buffer == null) {
+                return new CapturedBody(null, null, 0, skipped);
+            }
+            Charset charset = encoder != null ? StandardCharsets.UTF_8 : charset(contentType.get());
+            return new CapturedBody(Arrays.copyOf(buffer, count), charset, more, null);
+        } finally {
+            release();
+        }
+    }
+
+    void release() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    static boolean isText(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String subtype = mediaType.getSubtype();
+            return "text".equals(mediaType.getType())
+                    || subtype.equals("json") || subtype.endsWith("+json")
+                    || subtype.equals("xml") || subtype.endsWith("+xml")
+                    || subtype.equals("x-www-form-urlencoded") || subtype.equals("javascript")
+                    || subtype.equals("x-ndjson");
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Content-Type中没有指定时按UTF-8,而不是Servlet默认的ISO-8859-1
+     */
+    private static Charset charset(String contentType) {
+        if (contentType != null) {
+            try {
+                Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if (charset != null) {
+                    return charset;
+                }
+            } catch (RuntimeException ignored) {
+                // 按UTF-8
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
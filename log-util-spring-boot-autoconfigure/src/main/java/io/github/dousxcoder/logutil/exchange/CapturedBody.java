@@ -0,0 +1,56 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONAware;
+
+import java.nio.charset.Charset;
+
+/**
+ * 截取的报文,在日志线程上解码
+ * <br/>
+ * 长度已受截取上限限制,输出时不再受字符串长度限制;超出上限时追加未截取的字节数(经Writer写出时为字符数)
+ *
+ * @author dousx
+ * @date 2026-10-18 22:20
+ */
+public final class CapturedBody implements JSONAware {
+    static final String MORE = "...(%d more)";
+
+    private final byte[] bytes;
+    private final Charset charset;
+    private final long more;
+    private final Skipped skipped;
+
+    CapturedBody(byte[] bytes, Charset charset, long more, Skipped skipped) {
+        this.bytes = bytes;
+        this.charset = charset;
+        this.more = more;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public String toJSONString() {
+        return JSON.toJSONString(toString());
+    }
+
+    @Override
+    public String toString() {
+        if (skipped != null) {
+            return skipped.text;
+        }
+        String text = new String(bytes, charset);
+        return more > 0 ? text + String.format(MORE, more) : text;
+    }
+
+    enum Skipped {
+        BINARY("(binary body not captured)"),
+        POOL_EXHAUSTED("(body not captured, buffer pool exhausted)"),
+        ;
+
+        private final String text;
+
+        Skipped(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import io.github.dousxcoder.logutil.constant.LogConstant;
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import io.github.dousxcoder.logutil.utils.NetworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按路径记录请求和响应报文,不需要{@code @AopLogger}
+ * <br/>
+ * 报文在应用读取请求、写出响应时顺带截取前maxBodyBytes个字节,数据照常流经,不预先读取也不缓存整个报文;
+ * 事件与切面日志使用同一个分发器和输出,参数为query和body,结果为status和body
+ *
+ * @author dousx
+ * @date 2026-10-18 22:35
+ */
+public class ExchangeLogFilter extends OncePerRequestFilter {
+    public static final String NAME = "cruder_exchangeLogFilter";
+    /**
+     * 登记到{@link MethodLogMetaCache}的key
+     */
+    public static final String METHOD_KEY = "exchange#http";
+    private static final String[] PARAMETER_NAMES = {"query", "body"};
+    private static final Logger log = LoggerFactory.getLogger(ExchangeLogFilter.class);
+
+    private final LogDispatcher logDispatcher;
+    private final MethodLogMetaCache methodLogMetaCache;
+    private final LogMetrics logMetrics;
+    private final MethodLogMeta meta;
+    private final BodyBufferPool pool;
+    private final List<String> includePatterns;
+    private final List<String> excludePatterns;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public ExchangeLogFilter(LogDispatcher logDispatcher, MethodLogMetaCache methodLogMetaCache, LogMetrics logMetrics,
+                             LogProperties.Exchange properties) {
+        this.logDispatcher = logDispatcher;
+        this.methodLogMetaCache = methodLogMetaCache;
+        this.logMetrics = logMetrics;
+        this.meta = methodLogMetaCache.register(METHOD_KEY, properties.getDescribe(), properties.getLevel(),
+                properties.getLogger(), PARAMETER_NAMES);
+        this.pool = new BodyBufferPool(Math.max(1, properties.getMaxBodyBytes()), properties.getMaxBuffers());
+        this.includePatterns = new ArrayList<>(properties.getIncludePatterns());
+        this.excludePatterns = new ArrayList<>(properties.getExcludePatterns());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!methodLogMetaCache.isEnabled(meta)) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (String pattern : excludePatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        for (String pattern : includePatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean sampled = meta.sample();
+        if (!sampled && !meta.getSampling().hasTailRule()) {
+            logMetrics.unsampled();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TeeRequestWrapper requestWrapper = new TeeRequestWrapper(request, pool);
+        TeeResponseWrapper responseWrapper = new TeeResponseWrapper(response, pool);
+        long startTime = System.currentTimeMillis();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && request.isAsyncStarted()) {
+                // 异步请求在完成时记录,期间应用通过AsyncContext继续使用包装后的请求和响应
+                request.getAsyncContext().addListener(new CompletionListener(request, requestWrapper, responseWrapper,
+                        startTime, sampled));
+            } else {
+                complete(request, requestWrapper, responseWrapper, startTime, sampled, failure);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, TeeRequestWrapper requestWrapper,
+                          TeeResponseWrapper responseWrapper, long startTime, boolean sampled, Throwable failure) {
+        try {
+            long endTime = System.currentTimeMillis();
+            // 异常继续抛出时容器按500处理,此时响应状态还未设置
+            int status = failure != null && responseWrapper.getStatus() < HttpServletResponse.SC_BAD_REQUEST
+                    ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : responseWrapper.getStatus();
+            CapturedBody requestBody = requestWrapper.getCapture().finish();
+            CapturedBody responseBody = responseWrapper.getCapture().finish();
+            boolean error = failure != null || status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            if (!sampled && !meta.getSampling().keep(endTime - startTime, error)) {
+                logMetrics.unsampled();
+                return;
+            }
+            Map<String, Object> result = new LinkedHashMap<>(4);
+            result.put("status", status);
+            if (failure != null) {
+                result.put("error", String.valueOf(failure));
+            }
+            result.put("body", responseBody);
+            Object traceId = request.getAttribute(LogConstant.TRACE_ID);
+            logDispatcher.dispatch(LogEvent.builder()
+                    .meta(meta)
+                    .args(new Object[]{request.getQueryString(), requestBody})
+                    .result(result)
+                    .error(failure)
+                    .uri(request.getRequestURI())
+                    .httpMethod(request.getMethod())
+                    .ip(NetworkUtil.getIpAddress(request))
+                    .trace(traceId instanceof String ? TraceContext.of((String) traceId) : TraceContext.capture())
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .build());
+        } catch (Exception e) {
+            if (log.isTraceEnabled()) {
+                log.trace("记录请求报文出错", e);
+            }
+        } finally {
+            requestWrapper.getCapture().release();
+            responseWrapper.getCapture().release();
+        }
+    }
+
+    private final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final TeeRequestWrapper requestWrapper;
+        private final TeeResponseWrapper responseWrapper;
+        private final long startTime;
+        private final boolean sampled;
+
+        private CompletionListener(HttpServletRequest request, TeeRequestWrapper requestWrapper,
+                                   TeeResponseWrapper responseWrapper, long startTime, boolean sampled) {
+            this.request = request;
+            this.requestWrapper = requestWrapper;
+            this.responseWrapper = responseWrapper;
+            this.startTime = startTime;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            complete(request, requestWrapper, responseWrapper, startTime, sampled, event.getThrowable());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 再次startAsync时需要重新注册
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
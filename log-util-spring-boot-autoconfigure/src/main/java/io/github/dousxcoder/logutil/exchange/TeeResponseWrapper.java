@@ -0,0 +1,154 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.io.PrintWriter;
+
+/**
+ * 响应写出时顺带截取,数据直接写给容器,不缓存整个响应,不影响流式下载
+ *
+ * @author dousx
+ * @date 2026-10-18 22:30
+ */
+class TeeResponseWrapper extends HttpServletResponseWrapper {
+    private final BodyCapture capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    TeeResponseWrapper(HttpServletResponse response, BodyBufferPool pool) {
+        super(response);
+        this.capture = new BodyCapture(pool, response::getContentType);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    /**
+     * 字符直接写给容器的Writer,由容器负责编码和结束时的flush,这里只截取
+     */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new TeeWriter(super.getWriter(), capture));
+        }
+        return writer;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        capture.reset();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        capture.reset();
+    }
+
+    BodyCapture getCapture() {
+        return capture;
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final BodyCapture capture;
+
+        private TeeOutputStream(ServletOutputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private static final class TeeWriter extends Writer {
+        private final PrintWriter delegate;
+        private final BodyCapture capture;
+
+        private TeeWriter(PrintWriter delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int c) {
+            delegate.write(c);
+            if (capture.capturing()) {
+                capture.write(CharBuffer.wrap(new char[]{(char) c}));
+            } else {
+                capture.skip(1);
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            delegate.write(cbuf, off, len);
+            if (capture.capturing()) {
+                capture.write(CharBuffer.wrap(cbuf, off, len));
+            } else {
+                capture.skip(len);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            delegate.write(str, off, len);
+            if (capture.capturing()) {
+                capture.write(CharBuffer.wrap(str, off, off + len));
+            } else {
+                capture.skip(len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
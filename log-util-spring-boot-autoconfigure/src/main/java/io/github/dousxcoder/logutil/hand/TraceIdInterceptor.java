@@ -1,34 +1,53 @@
 package io.github.dousxcoder.logutil.hand;
 
 import io.github.dousxcoder.logutil.constant.LogConstant;
-import org.slf4j.MDC;
-import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import io.github.dousxcoder.logutil.trace.TraceHeaders;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Objects;
-import java.util.UUID;
 
 
-public class TraceIdInterceptor implements HandlerInterceptor {
+/**
+ * 设置请求线程的{@link TraceContext},同时写入MDC
+ * <br/>
+ * 优先使用上游传入的traceId({@link TraceHeaders}),没有时由{@link TraceIdGenerator}生成
+ * <br/>
+ * 在afterCompletion中恢复,视图渲染和异常处理期间的日志也带有traceId
+ */
+public class TraceIdInterceptor implements AsyncHandlerInterceptor {
     public static final String NAME = "cruder_TraceIdInterceptor";
+    private static final String PREVIOUS = TraceIdInterceptor.class.getName() + ".PREVIOUS";
+
+    private final TraceIdGenerator traceIdGenerator;
+
+    public TraceIdInterceptor(TraceIdGenerator traceIdGenerator) {
+        this.traceIdGenerator = traceIdGenerator;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         //如果有上层调用就用上层的ID
-        String traceId = request.getHeader(LogConstant.TRACE_ID);
+        String traceId = TraceHeaders.extract(request::getHeader);
         if (Objects.isNull(traceId)) {
-            traceId = UUID.randomUUID().toString();
+            traceId = traceIdGenerator.generate();
         }
-        MDC.put(LogConstant.TRACE_ID, traceId);
+        request.setAttribute(PREVIOUS, TraceContext.attach(TraceContext.of(traceId)));
         request.setAttribute(LogConstant.TRACE_ID, traceId);
         return true;
     }
 
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        TraceContext.restore((TraceContext) request.getAttribute(PREVIOUS));
+    }
 
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        MDC.remove(LogConstant.TRACE_ID);
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // 异步请求时容器线程先返回,不调用afterCompletion
+        TraceContext.restore((TraceContext) request.getAttribute(PREVIOUS));
     }
-}
\ No newline at end of file
+}
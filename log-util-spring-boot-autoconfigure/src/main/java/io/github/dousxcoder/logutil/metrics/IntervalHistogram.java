@@ -0,0 +1,97 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个统计周期内的耗时直方图(微秒)
+ * <br/>
+ * 对数-线性分桶:每个2的幂区间再均分为{@link #SUB_BUCKETS}个桶,相对误差不超过1/8;超过2^32微秒(约71分钟)的计入最后一个桶
+ *
+ * @author dousx
+ * @date 2026-10-18 23:45
+ */
+final class IntervalHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 32;
+    static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * 周期内的调用数在int范围内,比long节省一半内存
+     */
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long micros, boolean error) {
+        counts.incrementAndGet(index(micros));
+        count.incrementAndGet();
+        if (error) {
+            errors.incrementAndGet();
+        }
+        totalMicros.addAndGet(micros);
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * 累加到snapshot后清零,只在没有写线程时调用
+     *
+     * @param buckets 按桶累加
+     * @param totals  依次累加count、errors、totalMicros,maxMicros取最大值
+     */
+    void drainTo(long[] buckets, long[] totals) {
+        long n = count.get();
+        if (n == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            int c = counts.get(i);
+            if (c != 0) {
+                buckets[i] += c;
+                counts.set(i, 0);
+            }
+        }
+        totals[0] += n;
+        totals[1] += errors.get();
+        totals[2] += totalMicros.get();
+        totals[3] = Math.max(totals[3], maxMicros.get());
+        count.set(0);
+        errors.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return micros < 0 ? 0 : (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @param index 桶
+     * @return 桶内最大值,最后一个桶为Long.MAX_VALUE
+     */
+    static long highestEquivalent(int index) {
+        return index == BUCKETS - 1 ? Long.MAX_VALUE : lowestEquivalent(index + 1) - 1;
+    }
+
+    private static long lowestEquivalent(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int k = index - SUB_BUCKETS;
+        int exponent = k / SUB_BUCKETS + SUB_BUCKET_BITS;
+        return (1L << exponent) + ((long) (k % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS));
+    }
+}
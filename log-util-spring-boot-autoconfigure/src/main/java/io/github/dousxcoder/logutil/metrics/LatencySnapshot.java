@@ -0,0 +1,82 @@
+package io.github.dousxcoder.logutil.metrics;
+
+/**
+ * 不可变的耗时统计快照,单位微秒
+ *
+ * @author dousx
+ * @date 2026-10-18 23:50
+ */
+public final class LatencySnapshot {
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(new long[IntervalHistogram.BUCKETS], 0, 0, 0, 0);
+
+    private final long[] buckets;
+    private final long count;
+    private final long errors;
+    private final long totalMicros;
+    private final long maxMicros;
+
+    LatencySnapshot(long[] buckets, long count, long errors, long totalMicros, long maxMicros) {
+        this.buckets = buckets;
+        this.count = count;
+        this.errors = errors;
+        this.totalMicros = totalMicros;
+        this.maxMicros = maxMicros;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public double meanMicros() {
+        return count == 0 ? 0 : (double) totalMicros / count;
+    }
+
+    /**
+     * 近似分位数,取所在桶的上界且不超过最大值
+     *
+     * @param percentile 0~1
+     * @return 微秒
+     */
+    public long percentileMicros(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(IntervalHistogram.highestEquivalent(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    /**
+     * @param other 另一个快照
+     * @return 合并后的新快照
+     */
+    LatencySnapshot add(LatencySnapshot other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long[] merged = buckets.clone();
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.buckets[i];
+        }
+        return new LatencySnapshot(merged, count + other.count, errors + other.errors,
+                totalMicros + other.totalMicros, Math.max(maxMicros, other.maxMicros));
+    }
+}
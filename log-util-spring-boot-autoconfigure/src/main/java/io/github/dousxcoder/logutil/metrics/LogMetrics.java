@@ -0,0 +1,123 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 日志事件计数
+ * <br/>
+ * 请求线程和日志线程都只做{@link LongAdder}累加,由{@link LogMetricsBinder}或{@link LogMetricsMXBean}对外暴露
+ *
+ * @author dousx
+ * @date 2026-10-18 13:30
+ */
+public class LogMetrics {
+    public static final String NAME = "cruder_logMetrics";
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder unsampled = new LongAdder();
+    private final LongAdder summarized = new LongAdder();
+    private final LongAdder spooled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LatencyHistogram serializeLatency = new LatencyHistogram();
+    private final LatencyHistogram printLatency = new LatencyHistogram();
+
+    public void submitted() {
+        submitted.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void sampledOut() {
+        sampledOut.increment();
+    }
+
+    /**
+     * 请求线程上按{@code @AopLogger}采样配置跳过一次调用
+     */
+    public void unsampled() {
+        unsampled.increment();
+    }
+
+    public void summarized() {
+        summarized.increment();
+    }
+
+    /**
+     * 缓冲区已满,写入溢出文件
+     */
+    public void spooled() {
+        spooled.increment();
+    }
+
+    /**
+     * 从溢出文件重新分发
+     */
+    public void replayed() {
+        replayed.increment();
+    }
+
+    /**
+     * 日志线程处理完一个事件
+     *
+     * @param busy 处理耗时,纳秒
+     */
+    public void processed(long busy) {
+        processed.increment();
+        busyNanos.add(busy);
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    public long getUnsampled() {
+        return unsampled.sum();
+    }
+
+    public long getSummarized() {
+        return summarized.sum();
+    }
+
+    public long getSpooled() {
+        return spooled.sum();
+    }
+
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    public LatencyHistogram getSerializeLatency() {
+        return serializeLatency;
+    }
+
+    public LatencyHistogram getPrintLatency() {
+        return printLatency;
+    }
+
+    /**
+     * 日志线程累计忙碌时间,单调递增;读取不改变状态,利用率由监控系统按 忙碌时间的增长率/日志线程数 计算
+     *
+     * @return 纳秒
+     */
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 把{@link LogMetrics}绑定到Micrometer
+ *
+ * @author dousx
+ * @date 2026-10-18 14:20
+ */
+public class LogMetricsBinder implements MeterBinder {
+    public static final String NAME = "cruder_logMetricsBinder";
+    private static final String PREFIX = "log.util.";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final LogMetrics logMetrics;
+    private final LogDispatcher logDispatcher;
+
+    public LogMetricsBinder(LogMetrics logMetrics, LogDispatcher logDispatcher) {
+        this.logMetrics = logMetrics;
+        this.logDispatcher = logDispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "events.submitted", "提交的日志事件", LogMetrics::getSubmitted);
+        counter(registry, "events.dropped", "缓冲区已满丢弃的日志事件", LogMetrics::getDropped);
+        counter(registry, "events.sampled", "超过高水位被采样丢弃的日志事件", LogMetrics::getSampledOut);
+        counter(registry, "calls.unsampled", "按采样配置未记录的调用", LogMetrics::getUnsampled);
+        counter(registry, "events.summarized", "超过高水位降级为摘要的日志事件", LogMetrics::getSummarized);
+        counter(registry, "events.spooled", "缓冲区已满写入溢出文件的日志事件", LogMetrics::getSpooled);
+        counter(registry, "events.replayed", "从溢出文件重新分发的日志事件", LogMetrics::getReplayed);
+        counter(registry, "events.processed", "处理完成的日志事件", LogMetrics::getProcessed);
+        Gauge.builder(PREFIX + "queue.depth", logDispatcher, LogDispatcher::queueDepth)
+                .description("等待处理的日志事件")
+                .register(registry);
+        Gauge.builder(PREFIX + "queue.capacity", logDispatcher, LogDispatcher::queueCapacity)
+                .description("最多可积压的日志事件")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "worker.busy", logMetrics, m -> m.getBusyNanos() / 1_000_000_000D)
+                .description("日志线程累计忙碌时间,利用率为其增长率除以日志线程数")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder(PREFIX + "worker.count", logDispatcher, LogDispatcher::workerCount)
+                .description("日志线程数")
+                .register(registry);
+        latency(registry, "serialize", "参数和结果序列化耗时", logMetrics.getSerializeLatency());
+        latency(registry, "print", "日志输出耗时", logMetrics.getPrintLatency());
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<LogMetrics> f) {
+        FunctionCounter.builder(PREFIX + name, logMetrics, f)
+                .description(description)
+                .register(registry);
+    }
+
+    private void latency(MeterRegistry registry, String name, String description, LatencyHistogram histogram) {
+        FunctionTimer.builder(PREFIX + name, histogram, LatencyHistogram::count, LatencyHistogram::totalNanos, TimeUnit.NANOSECONDS)
+                .description(description)
+                .register(registry);
+        Gauge.builder(PREFIX + name + ".max", histogram, h -> h.maxNanos() / 1_000_000D)
+                .baseUnit("milliseconds")
+                .register(registry);
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(PREFIX + name + ".percentile", histogram, h -> h.percentileNanos(percentile) / 1_000_000D)
+                    .tag("phi", String.valueOf(percentile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 把{@link LogMetrics}注册为平台MBean
+ *
+ * @author dousx
+ * @date 2026-10-18 14:10
+ */
+public class LogMetricsJmxExporter implements LogMetricsMXBean, InitializingBean, DisposableBean {
+    public static final String NAME = "cruder_logMetricsJmxExporter";
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(LogMetricsJmxExporter.class);
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private final LogMetrics logMetrics;
+    private final LogDispatcher logDispatcher;
+    private ObjectName objectName;
+
+    public LogMetricsJmxExporter(LogMetrics logMetrics, LogDispatcher logDispatcher) {
+        this.logMetrics = logMetrics;
+        this.logDispatcher = logDispatcher;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            log.warn("MBean已存在:{}", OBJECT_NAME);
+            return;
+        }
+        server.registerMBean(this, name);
+        objectName = name;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+    }
+
+    @Override
+    public long getSubmitted() {
+        return logMetrics.getSubmitted();
+    }
+
+    @Override
+    public long getDropped() {
+        return logMetrics.getDropped();
+    }
+
+    @Override
+    public long getSampledOut() {
+        return logMetrics.getSampledOut();
+    }
+
+    @Override
+    public long getUnsampled() {
+        return logMetrics.getUnsampled();
+    }
+
+    @Override
+    public long getSummarized() {
+        return logMetrics.getSummarized();
+    }
+
+    @Override
+    public long getSpooled() {
+        return logMetrics.getSpooled();
+    }
+
+    @Override
+    public long getReplayed() {
+        return logMetrics.getReplayed();
+    }
+
+    @Override
+    public long getProcessed() {
+        return logMetrics.getProcessed();
+    }
+
+    @Override
+    public long getQueueDepth() {
+        return logDispatcher.queueDepth();
+    }
+
+    @Override
+    public long getQueueCapacity() {
+        return logDispatcher.queueCapacity();
+    }
+
+    @Override
+    public long getWorkerBusyMillis() {
+        return logMetrics.getBusyNanos() / 1_000_000L;
+    }
+
+    @Override
+    public int getWorkerCount() {
+        return logDispatcher.workerCount();
+    }
+
+    @Override
+    public long getSerializeCount() {
+        return logMetrics.getSerializeLatency().count();
+    }
+
+    @Override
+    public double getSerializeMeanMillis() {
+        return mean(logMetrics.getSerializeLatency());
+    }
+
+    @Override
+    public double getSerializeP99Millis() {
+        return logMetrics.getSerializeLatency().percentileNanos(0.99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getSerializeMaxMillis() {
+        return logMetrics.getSerializeLatency().maxNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getPrintCount() {
+        return logMetrics.getPrintLatency().count();
+    }
+
+    @Override
+    public double getPrintMeanMillis() {
+        return mean(logMetrics.getPrintLatency());
+    }
+
+    @Override
+    public double getPrintP99Millis() {
+        return logMetrics.getPrintLatency().percentileNanos(0.99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getPrintMaxMillis() {
+        return logMetrics.getPrintLatency().maxNanos() / NANOS_PER_MILLI;
+    }
+
+    private static double mean(LatencyHistogram histogram) {
+        long count = histogram.count();
+        return count == 0 ? 0 : histogram.totalNanos() / NANOS_PER_MILLI / count;
+    }
+}
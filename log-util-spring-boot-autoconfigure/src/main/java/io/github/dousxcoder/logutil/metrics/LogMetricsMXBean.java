@@ -0,0 +1,54 @@
+package io.github.dousxcoder.logutil.metrics;
+
+/**
+ * 没有Micrometer时通过JMX暴露的指标
+ *
+ * @author dousx
+ * @date 2026-10-18 14:05
+ */
+public interface LogMetricsMXBean {
+    String OBJECT_NAME = "io.github.dousxcoder.logutil:type=LogMetrics";
+
+    long getSubmitted();
+
+    long getDropped();
+
+    long getSampledOut();
+
+    long getUnsampled();
+
+    long getSummarized();
+
+    long getSpooled();
+
+    long getReplayed();
+
+    long getProcessed();
+
+    long getQueueDepth();
+
+    long getQueueCapacity();
+
+    /**
+     * 日志线程累计忙碌时间,单调递增,利用率为两次读取的差值除以间隔和日志线程数
+     */
+    long getWorkerBusyMillis();
+
+    int getWorkerCount();
+
+    long getSerializeCount();
+
+    double getSerializeMeanMillis();
+
+    double getSerializeP99Millis();
+
+    double getSerializeMaxMillis();
+
+    long getPrintCount();
+
+    double getPrintMeanMillis();
+
+    double getPrintP99Millis();
+
+    double getPrintMaxMillis();
+}
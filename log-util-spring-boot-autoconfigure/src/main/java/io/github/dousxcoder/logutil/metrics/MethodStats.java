@@ -0,0 +1,100 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个方法的耗时、异常统计
+ * <br/>
+ * 按线程分条记录,每条有两个{@link IntervalHistogram}交替使用;{@link #rotate()}切换后汇总上一周期,记录时不加锁
+ *
+ * @author dousx
+ * @date 2026-10-18 23:55
+ */
+public class MethodStats {
+    private final String name;
+    private final String describe;
+    private final Stripe[] stripes;
+    private final int mask;
+    private volatile LatencySnapshot last = LatencySnapshot.EMPTY;
+    private volatile LatencySnapshot total = LatencySnapshot.EMPTY;
+
+    /**
+     * @param name     declaringTypeName.methodName
+     * @param describe 描述
+     * @param stripes  分条数,向上取2的幂
+     */
+    public MethodStats(String name, String describe, int stripes) {
+        this.name = name;
+        this.describe = describe;
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param nanos 耗时
+     * @param error 是否抛出异常
+     */
+    public void record(long nanos, boolean error) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & mask];
+        long epoch = stripe.phaser.writerCriticalSectionEnter();
+        try {
+            stripe.active.record(TimeUnit.NANOSECONDS.toMicros(nanos), error);
+        } finally {
+            stripe.phaser.writerCriticalSectionExit(epoch);
+        }
+    }
+
+    /**
+     * 结束当前周期
+     *
+     * @return 刚结束的周期的快照
+     */
+    public synchronized LatencySnapshot rotate() {
+        long[] buckets = new long[IntervalHistogram.BUCKETS];
+        long[] totals = new long[4];
+        for (Stripe stripe : stripes) {
+            IntervalHistogram previous = stripe.active;
+            stripe.active = stripe.inactive;
+            stripe.phaser.flipPhase();
+            previous.drainTo(buckets, totals);
+            stripe.inactive = previous;
+        }
+        LatencySnapshot snapshot = totals[0] == 0 ? LatencySnapshot.EMPTY
+                : new LatencySnapshot(buckets, totals[0], totals[1], totals[2], totals[3]);
+        last = snapshot;
+        total = total.add(snapshot);
+        return snapshot;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescribe() {
+        return describe;
+    }
+
+    /**
+     * @return 上一个完整周期
+     */
+    public LatencySnapshot getLast() {
+        return last;
+    }
+
+    /**
+     * @return 启动以来截至上一个周期
+     */
+    public LatencySnapshot getTotal() {
+        return total;
+    }
+
+    private static final class Stripe {
+        private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+        private volatile IntervalHistogram active = new IntervalHistogram();
+        private IntervalHistogram inactive = new IntervalHistogram();
+    }
+}
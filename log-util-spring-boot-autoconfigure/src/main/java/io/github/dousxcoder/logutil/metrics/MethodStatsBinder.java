@@ -0,0 +1,77 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 把每个方法的{@link MethodStats}绑定到Micrometer,tag method为declaringTypeName.methodName
+ * <br/>
+ * 方法在第一次调用时才有统计,每个周期切换后补充注册新出现的方法
+ *
+ * @author dousx
+ * @date 2026-10-19 00:15
+ */
+public class MethodStatsBinder implements MeterBinder {
+    public static final String NAME = "cruder_methodStatsBinder";
+    private static final String PREFIX = "log.util.method.";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MethodStatsReporter reporter;
+    private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+    private final Set<MethodStats> bound = ConcurrentHashMap.newKeySet();
+
+    public MethodStatsBinder(MethodStatsReporter reporter) {
+        this.reporter = reporter;
+        reporter.addListener(this::bindNew);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registries.add(registry);
+        for (MethodStats stats : reporter.stats()) {
+            bind(registry, stats);
+        }
+    }
+
+    private void bindNew() {
+        for (MethodStats stats : reporter.stats()) {
+            if (bound.add(stats)) {
+                for (MeterRegistry registry : registries) {
+                    bind(registry, stats);
+                }
+            }
+        }
+    }
+
+    private void bind(MeterRegistry registry, MethodStats stats) {
+        bound.add(stats);
+        String method = stats.getName();
+        FunctionCounter.builder(PREFIX + "calls", stats, s -> s.getTotal().getCount())
+                .description("调用数,每个统计周期更新")
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "errors", stats, s -> s.getTotal().getErrors())
+                .description("抛出异常的调用数,每个统计周期更新")
+                .tag("method", method)
+                .register(registry);
+        Gauge.builder(PREFIX + "latency.max", stats, s -> s.getLast().getMaxMicros() / 1000D)
+                .description("上一个统计周期的最大耗时")
+                .tag("method", method)
+                .baseUnit("milliseconds")
+                .register(registry);
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(PREFIX + "latency", stats, s -> s.getLast().percentileMicros(percentile) / 1000D)
+                    .description("上一个统计周期的耗时分位数")
+                    .tags("method", method, "phi", String.valueOf(percentile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * actuator端点/actuator/logstats,按方法输出上一个周期和启动以来的耗时统计
+ *
+ * @author dousx
+ * @date 2026-10-19 00:25
+ */
+@Endpoint(id = "logstats")
+public class MethodStatsEndpoint {
+    public static final String NAME = "cruder_methodStatsEndpoint";
+
+    private final MethodStatsReporter reporter;
+
+    public MethodStatsEndpoint(MethodStatsReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        List<Map<String, Object>> methods = new ArrayList<>();
+        for (MethodStats stats : reporter.stats()) {
+            methods.add(describe(stats));
+        }
+        Map<String, Object> result = new LinkedHashMap<>(4);
+        result.put("intervalSeconds", reporter.getIntervalSeconds());
+        result.put("methods", methods);
+        return result;
+    }
+
+    private static Map<String, Object> describe(MethodStats stats) {
+        Map<String, Object> result = new LinkedHashMap<>(8);
+        result.put("method", stats.getName());
+        result.put("describe", stats.getDescribe());
+        result.put("interval", describe(stats.getLast()));
+        result.put("total", describe(stats.getTotal()));
+        return result;
+    }
+
+    private static Map<String, Object> describe(LatencySnapshot snapshot) {
+        Map<String, Object> result = new LinkedHashMap<>(16);
+        result.put("count", snapshot.getCount());
+        result.put("errors", snapshot.getErrors());
+        result.put("meanMillis", snapshot.meanMicros() / 1000D);
+        result.put("p50Millis", snapshot.percentileMicros(0.5) / 1000D);
+        result.put("p95Millis", snapshot.percentileMicros(0.95) / 1000D);
+        result.put("p99Millis", snapshot.percentileMicros(0.99) / 1000D);
+        result.put("maxMillis", snapshot.getMaxMicros() / 1000D);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按周期切换所有方法的{@link MethodStats},可选输出摘要
+ *
+ * @author dousx
+ * @date 2026-10-19 00:05
+ */
+public class MethodStatsReporter implements InitializingBean, DisposableBean {
+    public static final String NAME = "cruder_methodStatsReporter";
+    private static final String THREAD_NAME = "log-stats";
+
+    private final MethodLogMetaCache methodLogMetaCache;
+    private final int intervalSeconds;
+    private final Logger summaryLog;
+    private final boolean logSummary;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param methodLogMetaCache {@link MethodLogMetaCache}
+     * @param intervalSeconds    统计周期
+     * @param logSummary         是否输出摘要
+     * @param logger             摘要使用的Logger名称,为空时使用本类的Logger
+     */
+    public MethodStatsReporter(MethodLogMetaCache methodLogMetaCache, int intervalSeconds, boolean logSummary,
+                               String logger) {
+        this.methodLogMetaCache = methodLogMetaCache;
+        this.intervalSeconds = Math.max(1, intervalSeconds);
+        this.logSummary = logSummary;
+        this.summaryLog = LoggerFactory.getLogger(ObjectUtils.isEmpty(logger) ? MethodStatsReporter.class.getName() : logger);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::rotate, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * @param listener 每个周期切换后在统计线程上回调
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @return 所有方法的统计,按名称排序
+     */
+    public List<MethodStats> stats() {
+        List<MethodStats> stats = new ArrayList<>();
+        for (MethodLogMeta meta : methodLogMetaCache.metas()) {
+            if (meta.getStats() != null) {
+                stats.add(meta.getStats());
+            }
+        }
+        stats.sort(Comparator.comparing(MethodStats::getName));
+        return stats;
+    }
+
+    void rotate() {
+        try {
+            boolean summary = logSummary && summaryLog.isInfoEnabled();
+            for (MethodStats stats : stats()) {
+                LatencySnapshot snapshot = stats.rotate();
+                if (summary && snapshot.getCount() > 0) {
+                    summaryLog.info(summary(stats, snapshot));
+                }
+            }
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        } catch (Exception e) {
+            // 异常会取消后续的周期任务
+            summaryLog.warn("切换耗时统计出错", e);
+        }
+    }
+
+    private String summary(MethodStats stats, LatencySnapshot snapshot) {
+        return String.format(Locale.ROOT, "%s [%s] %ds count=%d errors=%d mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+                stats.getName(), stats.getDescribe(), intervalSeconds, snapshot.getCount(), snapshot.getErrors(),
+                snapshot.meanMicros() / 1000D, millis(snapshot, 0.5), millis(snapshot, 0.95), millis(snapshot, 0.99),
+                snapshot.getMaxMicros() / 1000D);
+    }
+
+    private static double millis(LatencySnapshot snapshot, double percentile) {
+        return snapshot.percentileMicros(percentile) / 1000D;
+    }
+}
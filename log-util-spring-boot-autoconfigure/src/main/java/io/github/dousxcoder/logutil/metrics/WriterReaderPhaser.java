@@ -0,0 +1,42 @@
+package io.github.dousxcoder.logutil.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 写线程无锁进出临界区,读线程切换阶段后等待切换前进入的写线程全部退出
+ * <br/>
+ * 与HdrHistogram的WriterReaderPhaser相同:偶数阶段起始值为0,奇数阶段为Long.MIN_VALUE,按进入时的符号决定退出时累加哪个计数
+ *
+ * @author dousx
+ * @date 2026-10-18 23:40
+ */
+final class WriterReaderPhaser {
+    private final AtomicLong startEpoch = new AtomicLong();
+    private final AtomicLong evenEndEpoch = new AtomicLong();
+    private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @return 传给{@link #writerCriticalSectionExit}的值
+     */
+    long writerCriticalSectionEnter() {
+        return startEpoch.getAndIncrement();
+    }
+
+    void writerCriticalSectionExit(long criticalValueAtEnter) {
+        (criticalValueAtEnter < 0 ? oddEndEpoch : evenEndEpoch).getAndIncrement();
+    }
+
+    /**
+     * 切换阶段并等待上一阶段的写线程退出;调用方需保证同一时刻只有一个读线程
+     */
+    void flipPhase() {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+        (nextPhaseIsEven ? evenEndEpoch : oddEndEpoch).set(initialStartValue);
+        long startValueAtFlip = startEpoch.getAndSet(initialStartValue);
+        AtomicLong previousEndEpoch = nextPhaseIsEven ? oddEndEpoch : evenEndEpoch;
+        while (previousEndEpoch.get() != startValueAtFlip) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 日志事件快照
+ * <br/>
+ * 在请求线程上采集,只包含不可变数据,不持有{@code HttpServletRequest}和{@code ProceedingJoinPoint}的引用,
+ * 避免日志线程执行时请求对象已被容器回收;参数和结果的序列化仍在日志线程上进行
+ *
+ * @author dousx
+ * @date 2026-10-18 09:12
+ */
+@Value
+@Builder(toBuilder = true)
+public class LogEvent {
+
+    /**
+     * 方法日志元数据
+     */
+    MethodLogMeta meta;
+
+    /**
+     * 参数值,与{@link MethodLogMeta#getParameterNames()}一一对应,{@code MultipartFile}、请求、流等参数已在请求线程上由{@code ArgSummarizer}转换为摘要
+     */
+    Object[] args;
+
+    /**
+     * 请求结果,异常时为异常信息
+     */
+    Object result;
+
+    /**
+     * 抛出的异常;从二进制记录恢复时为已输出的{@link RawJson}
+     */
+    Object error;
+
+    /**
+     * 嵌套调用,{@code List<LogSpan>};从二进制记录恢复时为{@link RawJson};未开启调用树或没有嵌套调用时为null
+     */
+    Object spans;
+
+    /**
+     * 超出数量限制未记录的嵌套调用数
+     */
+    int droppedSpans;
+
+    /**
+     * uri
+     */
+    String uri;
+
+    /**
+     * 请求方式
+     */
+    String httpMethod;
+
+    /**
+     * ip
+     */
+    String ip;
+
+    /**
+     * 请求线程上的链路上下文,日志线程上直接恢复这个引用
+     */
+    TraceContext trace;
+
+    /**
+     * 请求时间
+     */
+    long startTime;
+
+    /**
+     * 完成时间
+     */
+    long endTime;
+
+    /**
+     * 只记录摘要,不输出参数和结果
+     */
+    boolean summary;
+
+    /**
+     * 只写入飞行记录,不输出;积压过高时最先丢弃
+     */
+    boolean recordOnly;
+
+    /**
+     * @return traceId,没有链路上下文时为null
+     */
+    public String getTraceId() {
+        return trace == null ? null : trace.getTraceId();
+    }
+
+    /**
+     * 积压过高时降级为摘要,释放参数和结果的引用
+     *
+     * @return {@link LogEvent}
+     */
+    public LogEvent toSummary() {
+        return toBuilder().args(null).result(null).spans(null).summary(true).build();
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 序列化限制,在写入过程中生效
+ *
+ * @author dousx
+ * @date 2026-10-18 15:05
+ */
+@Value
+@Builder
+public class LogLimits {
+    /**
+     * 不限制
+     */
+    public static final int UNLIMITED = -1;
+    /**
+     * 注解中未指定,使用全局配置
+     */
+    public static final int GLOBAL = -2;
+    /**
+     * ignoreLongText时单个字符串最大长度
+     */
+    public static final int LONG_TEXT_LENGTH = 1024;
+
+    /**
+     * 单个字符串最大长度,超出部分截断
+     */
+    int maxStringLength;
+
+    /**
+     * 集合、数组、Map最多输出的元素个数
+     */
+    int maxCollectionElements;
+
+    /**
+     * 最大嵌套深度
+     */
+    int maxDepth;
+
+    /**
+     * 整行最大字节数(UTF-8),写入参数或结果前检查,超出时该值以标记代替;外层固定字段不截断
+     */
+    int maxBytes;
+}
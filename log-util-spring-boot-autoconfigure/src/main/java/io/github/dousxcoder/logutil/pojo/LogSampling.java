@@ -0,0 +1,65 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 采样配置
+ * <br/>
+ * 请求线程上先按比例、限流做头部决策;未命中时若配置了慢调用阈值或保留异常,执行完再判断是否保留
+ *
+ * @author dousx
+ * @date 2026-10-18 16:50
+ */
+@Value
+@Builder
+public class LogSampling {
+    /**
+     * 不启用
+     */
+    public static final int DISABLED = -1;
+    /**
+     * 注解中未指定,使用全局配置
+     */
+    public static final int GLOBAL = -2;
+
+    /**
+     * 采样比例,0~1
+     */
+    double ratio;
+
+    /**
+     * 每秒最多记录的调用数
+     */
+    int ratePerSecond;
+
+    /**
+     * 耗时超过该值(毫秒)的调用总是记录
+     */
+    long slowThresholdMillis;
+
+    /**
+     * 抛出异常的调用总是记录
+     */
+    boolean keepErrors;
+
+    /**
+     * 头部决策未命中时是否还需要执行完再判断
+     *
+     * @return true 需要
+     */
+    public boolean hasTailRule() {
+        return keepErrors || slowThresholdMillis != DISABLED;
+    }
+
+    /**
+     * 执行完后判断是否保留
+     *
+     * @param elapsedMillis 耗时
+     * @param error         是否抛出异常
+     * @return true 保留
+     */
+    public boolean keep(long elapsedMillis, boolean error) {
+        return (error && keepErrors) || (slowThresholdMillis != DISABLED && elapsedMillis >= slowThresholdMillis);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 嵌套的{@code @AopLogger}调用
+ * <br/>
+ * 在请求线程上随调用返回生成,挂在外层调用下,最外层调用结束时随{@link LogEvent}一起提交
+ *
+ * @author dousx
+ * @date 2026-10-19 02:50
+ */
+@Value
+@Builder
+public class LogSpan {
+
+    /**
+     * 方法日志元数据
+     */
+    MethodLogMeta meta;
+
+    /**
+     * 参数快照,未开启记录参数时为null
+     */
+    Object[] args;
+
+    /**
+     * 相对最外层调用开始的纳秒数
+     */
+    long offsetNanos;
+
+    /**
+     * 耗时(纳秒)
+     */
+    long durationNanos;
+
+    /**
+     * 是否抛出异常
+     */
+    boolean error;
+
+    /**
+     * 子调用,没有时为null
+     */
+    List<LogSpan> children;
+}
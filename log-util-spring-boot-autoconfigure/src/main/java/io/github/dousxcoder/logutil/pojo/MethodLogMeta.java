@@ -0,0 +1,131 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.metrics.MethodStats;
+import io.github.dousxcoder.logutil.summary.ArgSummarizer;
+import io.github.dousxcoder.logutil.utils.RateLimiter;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 方法日志元数据
+ * <br/>
+ * 由{@code MethodLogMetaCache}按{@link Method}解析一次后缓存,避免每次记录日志都反射读取注解、查找Logger
+ *
+ * @author dousx
+ * @date 2026-10-18 10:02
+ */
+@Value
+@Builder
+public class MethodLogMeta {
+
+    /**
+     * 被切方法,按路径记录的请求等登记的元数据为null
+     */
+    Method method;
+
+    /**
+     * 进程内唯一的方法id,二进制日志中用它代替方法信息
+     */
+    int id;
+
+    /**
+     * declaringTypeName#methodName(parameterTypes),重启后可以据此找回方法
+     */
+    String methodKey;
+
+    /**
+     * declaringTypeName.methodName
+     */
+    String classMethod;
+
+    /**
+     * 描述
+     */
+    String describe;
+
+    /**
+     * 日志级别
+     */
+    LevelEnum level;
+
+    /**
+     * 指定的Logger
+     */
+    Logger logger;
+
+    /**
+     * 忽略长文本
+     */
+    boolean ignoreLongText;
+
+    /**
+     * 是否格式化输出
+     */
+    boolean format;
+
+    /**
+     * 参数名
+     */
+    String[] parameterNames;
+
+    /**
+     * 参数摘要器,与{@link #parameterNames}一一对应,null表示直接序列化
+     */
+    ArgSummarizer[] argSummarizers;
+
+    /**
+     * 序列化限制
+     */
+    LogLimits limits;
+
+    /**
+     * 采样配置
+     */
+    LogSampling sampling;
+
+    /**
+     * 按方法限流,未配置ratePerSecond时为null
+     */
+    RateLimiter rateLimiter;
+
+    /**
+     * 耗时统计,log-util.stats.enabled=false或按路径记录的请求等登记的元数据为null
+     */
+    MethodStats stats;
+
+    /**
+     * 指定的Logger是否输出该级别,Logger级别变化时由{@code MethodLogMetaCache}刷新
+     */
+    @NonFinal
+    volatile boolean enabled;
+
+    /**
+     * 按Logger当前级别刷新{@link #enabled}
+     *
+     * @return 是否输出
+     */
+    public boolean refreshEnabled() {
+        boolean current = LevelEnum.INFO.equals(level) ? logger.isInfoEnabled() : logger.isDebugEnabled();
+        enabled = current;
+        return current;
+    }
+
+    /**
+     * 头部采样:先按比例,命中后再消耗限流令牌
+     *
+     * @return true 记录
+     */
+    public boolean sample() {
+        double ratio = sampling.getRatio();
+        if (ratio < 1D && ThreadLocalRandom.current().nextDouble() >= ratio) {
+            return false;
+        }
+        return rateLimiter == null || rateLimiter.tryAcquire();
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.dousxcoder.logutil.pojo;
+
+import com.alibaba.fastjson.JSONAware;
+
+/**
+ * 已序列化的JSON片段,输出时原样写出
+ * <br/>
+ * 从溢出文件等二进制记录中恢复的参数和结果不再还原成对象
+ *
+ * @author dousx
+ * @date 2026-10-18 18:10
+ */
+public final class RawJson implements JSONAware {
+    private final String json;
+
+    public RawJson(String json) {
+        this.json = json;
+    }
+
+    @Override
+    public String toJSONString() {
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
@@ -0,0 +1,555 @@
+package io.github.dousxcoder.logutil.properties;
+
+import io.github.dousxcoder.logutil.enums.Compression;
+import io.github.dousxcoder.logutil.enums.DispatcherType;
+import io.github.dousxcoder.logutil.enums.ExecutorType;
+import io.github.dousxcoder.logutil.enums.HighWaterAction;
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.enums.MaskType;
+import io.github.dousxcoder.logutil.enums.OverflowPolicy;
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.enums.SinkType;
+import io.github.dousxcoder.logutil.enums.TimeFormat;
+import io.github.dousxcoder.logutil.enums.TraceIdType;
+import io.github.dousxcoder.logutil.enums.WaitStrategyType;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.LogSampling;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * log-util配置
+ *
+ * @author dousx
+ * @date 2026-10-18 11:10
+ */
+@Data
+@ConfigurationProperties(prefix = LogProperties.PREFIX)
+public class LogProperties {
+    public static final String PREFIX = "log-util";
+
+    /**
+     * 日志事件分发
+     */
+    private Dispatcher dispatcher = new Dispatcher();
+
+    /**
+     * {@link DispatcherType#EXECUTOR}使用的执行器
+     */
+    private Executor executor = new Executor();
+
+    /**
+     * 序列化限制,{@code @AopLogger}中指定的值优先
+     */
+    private Limits limits = new Limits();
+
+    /**
+     * 采样,{@code @AopLogger}中指定的值优先
+     */
+    private Sampling sampling = new Sampling();
+
+    /**
+     * requestTime、finishTime的输出格式
+     */
+    private TimeFormat timeFormat = TimeFormat.DATETIME;
+
+    /**
+     * 参数、结果的序列化方式,定义了{@code LogSerializer}类型的Bean时不生效
+     */
+    private SerializerType serializer = SerializerType.FASTJSON;
+
+    /**
+     * 日志输出
+     */
+    private Sink sink = new Sink();
+
+    /**
+     * 缓冲区已满时写入溢出文件
+     */
+    private Spool spool = new Spool();
+
+    /**
+     * 链路traceId
+     */
+    private Trace trace = new Trace();
+
+    /**
+     * 按路径记录请求和响应报文
+     */
+    private Exchange exchange = new Exchange();
+
+    /**
+     * 按方法统计耗时分位数和异常数
+     */
+    private Stats stats = new Stats();
+
+    /**
+     * 参数、结果中的字段脱敏
+     */
+    private Mask mask = new Mask();
+
+    /**
+     * 嵌套的{@code @AopLogger}调用合并到最外层调用的日志中
+     */
+    private Span span = new Span();
+
+    /**
+     * 异常指纹和堆栈去重
+     */
+    private Errors errors = new Errors();
+
+    /**
+     * 内存中的飞行记录,出现异常或慢调用时输出最近的调用
+     */
+    private Recorder recorder = new Recorder();
+
+    @Data
+    public static class Dispatcher {
+        /**
+         * 分发方式
+         */
+        private DispatcherType type = DispatcherType.EXECUTOR;
+
+        /**
+         * 环形缓冲区容量,向上取2的幂
+         */
+        private int bufferSize = 1024;
+
+        /**
+         * 消费者线程数
+         */
+        private int consumers = 1;
+
+        /**
+         * 消费者单批最多处理的事件数
+         */
+        private int batchSize = 128;
+
+        /**
+         * 消费者等待策略
+         */
+        private WaitStrategyType waitStrategy = WaitStrategyType.BLOCKING;
+
+        /**
+         * 写满时的处理策略
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * {@link OverflowPolicy#SAMPLE}时的采样间隔
+         */
+        private int sampleRate = 10;
+
+        /**
+         * 关闭时等待消费者处理剩余事件的秒数
+         */
+        private int awaitTerminationSeconds = 60;
+
+        /**
+         * 高水位,积压/容量超过该比例后按highWaterAction降级
+         */
+        private double highWaterMark = 0.8;
+
+        /**
+         * 超过高水位后的降级方式
+         */
+        private HighWaterAction highWaterAction = HighWaterAction.NONE;
+
+        /**
+         * {@link HighWaterAction#SAMPLE}时的采样间隔
+         */
+        private int highWaterSampleRate = 10;
+    }
+
+    @Data
+    public static class Executor {
+        /**
+         * 执行器类型
+         */
+        private ExecutorType type = ExecutorType.POOL;
+
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize = 3;
+
+        /**
+         * 最大线程数
+         */
+        private int maxPoolSize = 10;
+
+        /**
+         * 队列容量;{@link ExecutorType#VIRTUAL}时同时处理的事件数不超过queueCapacity+maxPoolSize
+         */
+        private int queueCapacity = 600;
+
+        /**
+         * 非核心线程空闲多久后回收(秒)
+         */
+        private int keepAliveSeconds = 600;
+
+        /**
+         * 关闭时最多等待多久处理完剩余事件(秒)
+         */
+        private int awaitTerminationSeconds = 60;
+
+        /**
+         * 是否开启{@code @EnableAsync};早期版本由日志线程池的配置开启,应用未自行声明时可设为true
+         */
+        private boolean enableAsync;
+    }
+
+    @Data
+    public static class Limits {
+        /**
+         * 单个字符串最大长度,-1不限制
+         */
+        private int maxStringLength = LogLimits.UNLIMITED;
+
+        /**
+         * 集合、数组、Map最多输出的元素个数,-1不限制
+         */
+        private int maxCollectionElements = 1000;
+
+        /**
+         * 最大嵌套深度,-1不限制
+         */
+        private int maxDepth = 32;
+
+        /**
+         * 整行最大字节数(UTF-8),-1不限制
+         */
+        private int maxBytes = 1024 * 1024;
+    }
+
+    @Data
+    public static class Sink {
+        /**
+         * 输出方式
+         */
+        private SinkType type = SinkType.SLF4J;
+
+        /**
+         * {@link SinkType#NDJSON_FILE}时只有这些Logger的日志写文件,其余仍通过SLF4J输出;为空时全部写文件
+         */
+        private Set<String> loggers = new HashSet<>();
+
+        /**
+         * {@link SinkType#NDJSON_FILE}、{@link SinkType#BINARY_FILE}的文件
+         */
+        private SinkFile file = new SinkFile();
+    }
+
+    @Data
+    public static class SinkFile {
+        /**
+         * 目录
+         */
+        private String directory = "logs";
+
+        /**
+         * 文件名,当前文件为{name}.ndjson或{name}.bin
+         */
+        private String name = "aop-log";
+
+        /**
+         * 写缓冲区字节数
+         */
+        private int bufferSize = 64 * 1024;
+
+        /**
+         * 超过该字节数后滚动,-1不按大小滚动
+         */
+        private long maxFileSize = 100L * 1024 * 1024;
+
+        /**
+         * 滚动间隔(分钟),按本地时间对齐,-1不按时间滚动
+         */
+        private int rollIntervalMinutes = 60;
+
+        /**
+         * 一批未结束时最长多久写入一次文件
+         */
+        private long flushIntervalMillis = 1000;
+
+        /**
+         * 滚动后的文件压缩方式
+         */
+        private Compression compression = Compression.GZIP;
+    }
+
+    @Data
+    public static class Spool {
+        /**
+         * 是否启用,不启用时缓冲区已满的事件按分发器配置丢弃
+         */
+        private boolean enabled = false;
+
+        /**
+         * 目录
+         */
+        private String directory = "logs/spool";
+
+        /**
+         * 单个段文件字节数
+         */
+        private int segmentSize = 64 * 1024 * 1024;
+
+        /**
+         * 最多保留的段文件数,写满后丢弃
+         */
+        private int maxSegments = 16;
+
+        /**
+         * 分发器仍然已满时重试回放的间隔(毫秒)
+         */
+        private long drainIntervalMillis = 10;
+    }
+
+    @Data
+    public static class Trace {
+        /**
+         * 请求未携带traceId时生成的格式
+         */
+        private TraceIdType idType = TraceIdType.UUID;
+
+        /**
+         * {@link TraceIdType#SNOWFLAKE}的节点,0~1023,-1时取进程名的哈希
+         */
+        private long nodeId = -1;
+    }
+
+    @Data
+    public static class Exchange {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 记录的路径,Ant风格,不含context-path
+         */
+        private List<String> includePatterns = new ArrayList<>(Collections.singletonList("/**"));
+
+        /**
+         * 排除的路径,优先于includePatterns
+         */
+        private List<String> excludePatterns = new ArrayList<>();
+
+        /**
+         * 请求体、响应体各自最多截取的字节数,超出部分只计数
+         */
+        private int maxBodyBytes = 4096;
+
+        /**
+         * 截取缓冲区总数,每个请求最多占用两个,用完时不再截取报文
+         */
+        private int maxBuffers = 256;
+
+        /**
+         * 描述
+         */
+        private String describe = "exchange";
+
+        /**
+         * 日志级别
+         */
+        private LevelEnum level = LevelEnum.INFO;
+
+        /**
+         * Logger名称,为空时使用默认Logger
+         */
+        private String logger;
+
+        /**
+         * 过滤器顺序,默认在表单解析等读取请求体的过滤器之前
+         */
+        private int order = Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Data
+    public static class Stats {
+        /**
+         * 是否启用,Logger未开启或未被采样的调用也会统计
+         */
+        private boolean enabled = true;
+
+        /**
+         * 统计周期(秒),分位数按上一个完整周期计算
+         */
+        private int intervalSeconds = 60;
+
+        /**
+         * 每个方法的分条数,向上取2的幂,线程按id分散到各条
+         */
+        private int stripes = 4;
+
+        /**
+         * 每个周期结束时输出一行摘要
+         */
+        private boolean logSummary = false;
+
+        /**
+         * 摘要使用的Logger名称,为空时使用MethodStatsReporter的Logger
+         */
+        private String logger;
+    }
+
+    @Data
+    public static class Span {
+        /**
+         * 是否启用,启用后嵌套调用不再单独提交和输出
+         */
+        private boolean enabled = false;
+
+        /**
+         * 子调用是否记录参数
+         */
+        private boolean includeArgs = false;
+
+        /**
+         * 每条日志最多记录的子调用数,超出的只计数
+         */
+        private int maxSpans = 256;
+    }
+
+    @Data
+    public static class Errors {
+        /**
+         * 是否启用,关闭后只记录异常信息
+         */
+        private boolean enabled = true;
+
+        /**
+         * 异常及每层cause参与计算指纹的栈顶帧数
+         */
+        private int frames = 8;
+
+        /**
+         * 缓存的指纹数,向上取2的幂,哈希冲突时替换
+         */
+        private int capacity = 1024;
+
+        /**
+         * 重置周期(秒),每个周期内每个指纹输出一次完整堆栈,-1不重置
+         */
+        private int resetIntervalSeconds = 600;
+
+        /**
+         * 完整堆栈最多输出的字符数,-1不限制
+         */
+        private int maxStackTraceLength = 16384;
+    }
+
+    @Data
+    public static class Recorder {
+        /**
+         * 是否启用,启用后Logger未开启或未被采样的调用也会采集,写入飞行记录而不输出
+         */
+        private boolean enabled = false;
+
+        /**
+         * 环形缓冲区的字节数,启动时分配,写满后覆盖最早的记录
+         */
+        private int capacity = 4 * 1024 * 1024;
+
+        /**
+         * 抛出异常时输出
+         */
+        private boolean dumpOnError = true;
+
+        /**
+         * 耗时超过该值(毫秒)时输出,-1不启用
+         */
+        private long slowThresholdMillis = -1;
+
+        /**
+         * 两次输出的最小间隔(秒),期间的触发忽略,下一次输出包含间隔内的记录
+         */
+        private int dumpIntervalSeconds = 10;
+
+        /**
+         * 只输出最近多少秒内结束的调用,-1不限制
+         */
+        private int windowSeconds = 60;
+
+        /**
+         * 输出使用的Logger名称,为空时使用FlightRecorder的Logger;按WARN级别输出
+         */
+        private String logger;
+    }
+
+    @Data
+    public static class Mask {
+        /**
+         * 是否启用,关闭后{@code @LogMask}也不生效
+         */
+        private boolean enabled = true;
+
+        /**
+         * 按名称脱敏的参数、属性和Map的key,{@code @LogMask}优先;配置后替换默认规则
+         */
+        private List<MaskField> fields = new ArrayList<>(Collections.singletonList(
+                new MaskField(new ArrayList<>(Arrays.asList("*password*", "*passwd*", "pwd", "*secret*", "*token")))));
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class MaskField {
+        /**
+         * 名称,忽略大小写,支持*通配
+         */
+        private List<String> names = new ArrayList<>();
+
+        /**
+         * 脱敏方式
+         */
+        private MaskType type = MaskType.ALL;
+
+        /**
+         * {@link MaskType#CUSTOM}时保留的前几个字符
+         */
+        private int keepFirst;
+
+        /**
+         * {@link MaskType#CUSTOM}时保留的后几个字符
+         */
+        private int keepLast;
+
+        public MaskField(List<String> names) {
+            this.names = names;
+        }
+    }
+
+    @Data
+    public static class Sampling {
+        /**
+         * 采样比例,0~1
+         */
+        private double ratio = 1D;
+
+        /**
+         * 每个方法每秒最多记录的调用数,-1不限制
+         */
+        private int ratePerSecond = LogSampling.DISABLED;
+
+        /**
+         * 耗时超过该值(毫秒)的调用总是记录,-1不启用
+         */
+        private long slowThresholdMillis = LogSampling.DISABLED;
+
+        /**
+         * 抛出异常的调用总是记录;开启后未被采样的调用也要采集参数,执行完再判断
+         */
+        private boolean keepErrors;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.dousxcoder.logutil.reactive;
+
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import lombok.Value;
+
+/**
+ * WebFlux请求快照,由{@link TraceIdWebFilter}以类型为key写入Reactor Context
+ * <br/>
+ * 事件循环线程上没有RequestContextHolder和MDC,切面从Context中读取
+ *
+ * @author dousx
+ * @date 2026-10-18 23:05
+ */
+@Value
+public class ReactiveRequest {
+    /**
+     * uri
+     */
+    String uri;
+
+    /**
+     * 请求方式
+     */
+    String httpMethod;
+
+    /**
+     * ip
+     */
+    String ip;
+
+    /**
+     * 链路上下文
+     */
+    TraceContext trace;
+}
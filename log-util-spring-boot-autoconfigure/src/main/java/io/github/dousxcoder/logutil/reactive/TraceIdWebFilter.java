@@ -0,0 +1,59 @@
+package io.github.dousxcoder.logutil.reactive;
+
+import io.github.dousxcoder.logutil.constant.LogConstant;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import io.github.dousxcoder.logutil.trace.TraceHeaders;
+import io.github.dousxcoder.logutil.trace.TraceIdGenerator;
+import io.github.dousxcoder.logutil.utils.NetworkUtil;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
+/**
+ * WebFlux版的{@code TraceIdInterceptor}
+ * <br/>
+ * traceId放入exchange属性,请求快照{@link ReactiveRequest}写入Reactor Context,不使用线程变量和MDC
+ *
+ * @author dousx
+ * @date 2026-10-18 23:10
+ */
+public class TraceIdWebFilter implements WebFilter, Ordered {
+    public static final String NAME = "cruder_traceIdWebFilter";
+
+    private final TraceIdGenerator traceIdGenerator;
+
+    public TraceIdWebFilter(TraceIdGenerator traceIdGenerator) {
+        this.traceIdGenerator = traceIdGenerator;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        //如果有上层调用就用上层的ID
+        String traceId = TraceHeaders.extract(headers::getFirst);
+        if (Objects.isNull(traceId)) {
+            traceId = traceIdGenerator.generate();
+        }
+        exchange.getAttributes().put(LogConstant.TRACE_ID, traceId);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String remoteAddr = remoteAddress == null || remoteAddress.getAddress() == null
+                ? null : remoteAddress.getAddress().getHostAddress();
+        ReactiveRequest reactiveRequest = new ReactiveRequest(request.getPath().value(), request.getMethodValue(),
+                NetworkUtil.getIpAddress(headers::getFirst, remoteAddr), TraceContext.of(traceId));
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(ReactiveRequest.class, reactiveRequest));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
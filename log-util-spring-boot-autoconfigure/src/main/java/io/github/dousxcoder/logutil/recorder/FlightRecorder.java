@@ -0,0 +1,252 @@
+package io.github.dousxcoder.logutil.recorder;
+
+import io.github.dousxcoder.logutil.codec.BinaryLogCodec;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ObjectUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 飞行记录
+ * <br/>
+ * Logger未开启或未被采样的调用仍在请求线程上采集,在日志线程上按{@link BinaryLogCodec}编码后写入启动时分配的环形缓冲区,
+ * 不输出日志行;写满后覆盖最早的记录。出现异常或慢调用时把最近的记录输出到日志,也可以通过actuator端点下载
+ * <br/>
+ * 每条记录为 length(4) 方法id(4) 事件内容,位置按写入的总字节数递增,对容量取模得到下标
+ *
+ * @author dousx
+ * @date 2026-10-19 03:10
+ */
+public class FlightRecorder {
+    public static final String NAME = "cruder_flightRecorder";
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorder.class);
+    private static final int RECORD_HEADER = 8;
+    /**
+     * 编码缓冲区超过该大小后不再复用,避免个别大事件长期占用内存
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<EncodeBuffer> BUFFER = ThreadLocal.withInitial(EncodeBuffer::new);
+
+    private final LogJsonWriter logJsonWriter;
+    private final Logger dumpLog;
+    private final byte[] arena;
+    private final boolean dumpOnError;
+    private final long slowThresholdMillis;
+    private final long dumpIntervalMillis;
+    private final long windowMillis;
+    private final Map<Integer, MethodLogMeta> methods = new ConcurrentHashMap<>();
+
+    /**
+     * 以下字段由this保护
+     */
+    private long head;
+    private long tail;
+    private long dumped;
+    private long lastDumpTime;
+
+    public FlightRecorder(LogJsonWriter logJsonWriter, LogProperties.Recorder properties) {
+        this.logJsonWriter = logJsonWriter;
+        this.dumpLog = LoggerFactory.getLogger(ObjectUtils.isEmpty(properties.getLogger())
+                ? FlightRecorder.class.getName() : properties.getLogger());
+        this.arena = new byte[Math.max(4096, properties.getCapacity())];
+        this.dumpOnError = properties.isDumpOnError();
+        this.slowThresholdMillis = properties.getSlowThresholdMillis();
+        this.dumpIntervalMillis = TimeUnit.SECONDS.toMillis(Math.max(0, properties.getDumpIntervalSeconds()));
+        this.windowMillis = properties.getWindowSeconds() > 0
+                ? TimeUnit.SECONDS.toMillis(properties.getWindowSeconds()) : -1L;
+        this.lastDumpTime = Long.MIN_VALUE / 2;
+    }
+
+    /**
+     * 写入一条记录,在日志线程上调用
+     *
+     * @param event {@link LogEvent#isRecordOnly()}的事件
+     */
+    public void record(LogEvent event) {
+        MethodLogMeta meta = event.getMeta();
+        methods.putIfAbsent(meta.getId(), meta);
+        EncodeBuffer buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            BinaryLogCodec.writeEvent(buffer.out, event, logJsonWriter);
+            append(meta.getId(), buffer);
+        } catch (Exception e) {
+            if (log.isTraceEnabled()) {
+                log.trace("写入飞行记录出错", e);
+            }
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * 事件抛出异常或耗时超过阈值时,把上一次输出之后的记录输出到日志;两次输出至少间隔dumpIntervalSeconds
+     *
+     * @param event 已输出或已写入飞行记录的事件
+     */
+    public void trigger(LogEvent event) {
+        String reason;
+        if (dumpOnError && event.getError() != null) {
+            reason = "error";
+        } else if (slowThresholdMillis >= 0 && event.getEndTime() - event.getStartTime() >= slowThresholdMillis) {
+            reason = "slow";
+        } else {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        byte[] snapshot;
+        synchronized (this) {
+            if (now - lastDumpTime < dumpIntervalMillis || dumped >= tail) {
+                return;
+            }
+            lastDumpTime = now;
+            snapshot = copy(Math.max(dumped, head));
+            dumped = tail;
+        }
+        List<LogEvent> events = decode(snapshot, windowMillis > 0 ? now - windowMillis : Long.MIN_VALUE);
+        if (events.isEmpty() || !dumpLog.isWarnEnabled()) {
+            return;
+        }
+        dumpLog.warn("飞行记录 reason={} method={} traceId={} records={}", reason, event.getMeta().getClassMethod(),
+                event.getTraceId(), events.size());
+        for (LogEvent recorded : events) {
+            dumpLog.warn(logJsonWriter.writeRecord(recorded));
+        }
+    }
+
+    /**
+     * 输出缓冲区中的记录,不影响{@link #trigger}的输出进度
+     *
+     * @param windowSeconds 最近多少秒内的记录,不大于0时使用配置
+     * @return 每行一条记录
+     */
+    public String dump(int windowSeconds) {
+        byte[] snapshot;
+        synchronized (this) {
+            snapshot = copy(head);
+        }
+        long now = System.currentTimeMillis();
+        long window = windowSeconds > 0 ? TimeUnit.SECONDS.toMillis(windowSeconds) : windowMillis;
+        StringBuilder builder = new StringBuilder(snapshot.length);
+        for (LogEvent event : decode(snapshot, window > 0 ? now - window : Long.MIN_VALUE)) {
+            builder.append(logJsonWriter.writeRecord(event)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private synchronized void append(int methodId, EncodeBuffer buffer) {
+        int length = buffer.size();
+        long size = RECORD_HEADER + (long) length;
+        if (size > arena.length) {
+            // 单条超过容量的事件不写入
+            return;
+        }
+        while (tail + size - head > arena.length) {
+            head += RECORD_HEADER + readInt(head);
+        }
+        writeInt(tail, length);
+        writeInt(tail + 4, methodId);
+        write(tail + RECORD_HEADER, buffer.array(), length);
+        tail += size;
+    }
+
+    /**
+     * @param since 只保留结束时间不早于该值的记录
+     */
+    private List<LogEvent> decode(byte[] snapshot, long since) {
+        List<LogEvent> events = new ArrayList<>();
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        while (in.remaining() >= RECORD_HEADER) {
+            int length = in.getInt();
+            MethodLogMeta meta = methods.get(in.getInt());
+            ByteBuffer body = in.slice();
+            ((Buffer) body).limit(length);
+            ((Buffer) in).position(in.position() + length);
+            if (meta == null) {
+                continue;
+            }
+            try {
+                LogEvent event = BinaryLogCodec.readEvent(body, meta);
+                if (event.getEndTime() >= since) {
+                    events.add(event);
+                }
+            } catch (RuntimeException e) {
+                if (log.isTraceEnabled()) {
+                    log.trace("读取飞行记录出错", e);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 按写入顺序复制[from, tail)
+     */
+    private byte[] copy(long from) {
+        byte[] snapshot = new byte[(int) (tail - from)];
+        int offset = index(from);
+        int first = Math.min(snapshot.length, arena.length - offset);
+        System.arraycopy(arena, offset, snapshot, 0, first);
+        System.arraycopy(arena, 0, snapshot, first, snapshot.length - first);
+        return snapshot;
+    }
+
+    private int index(long position) {
+        return (int) (position % arena.length);
+    }
+
+    private int readInt(long position) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = value << 8 | arena[index(position + i)] & 0xFF;
+        }
+        return value;
+    }
+
+    private void writeInt(long position, int value) {
+        for (int i = 0; i < 4; i++) {
+            arena[index(position + i)] = (byte) (value >>> 24 - 8 * i);
+        }
+    }
+
+    private void write(long position, byte[] bytes, int length) {
+        int offset = index(position);
+        int first = Math.min(length, arena.length - offset);
+        System.arraycopy(bytes, 0, arena, offset, first);
+        System.arraycopy(bytes, first, arena, 0, length - first);
+    }
+
+    /**
+     * 复用的编码缓冲区,直接从内部数组复制到环形缓冲区
+     */
+    private static final class EncodeBuffer extends ByteArrayOutputStream {
+        private final DataOutputStream out = new DataOutputStream(this);
+
+        private EncodeBuffer() {
+            super(512);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.dousxcoder.logutil.recorder;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * actuator端点/actuator/flightrecorder,以NDJSON下载飞行记录,可用seconds参数只取最近几秒
+ *
+ * @author dousx
+ * @date 2026-10-19 03:15
+ */
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+    public static final String NAME = "cruder_flightRecorderEndpoint";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final FlightRecorder flightRecorder;
+
+    public FlightRecorderEndpoint(FlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    @ReadOperation(produces = NDJSON)
+    public String dump(@Nullable Integer seconds) {
+        return flightRecorder.dump(seconds == null ? 0 : seconds);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.enums.DatePattern;
+import io.github.dousxcoder.logutil.exchange.CapturedBody;
+import com.alibaba.fastjson2.JSONWriter;
+import com.alibaba.fastjson2.filter.ValueFilter;
+import com.alibaba.fastjson2.writer.ObjectWriter;
+import com.alibaba.fastjson2.writer.ObjectWriterProvider;
+
+import java.io.Writer;
+
+/**
+ * fastjson2
+ * <br/>
+ * 使用独立的{@link ObjectWriterProvider},按类型缓存的ObjectWriter在所有调用间复用,不影响应用的全局配置;
+ * 开启引用检测,与fastjson 1.x一样不会因循环引用溢出;JSONWriter只能先写入自己的缓冲区,
+ * 每写一个属性前按{@link #FLUSH_CHARS}分段写出到out,整行字节数限制在序列化过程中生效
+ *
+ * @author dousx
+ * @date 2026-10-19 02:10
+ */
+public class Fastjson2LogSerializer implements LogSerializer {
+    /**
+     * JSONWriter中累积的字符数超过该值时写出
+     */
+    private static final int FLUSH_CHARS = 4096;
+    private static final JSONWriter.Feature[] FEATURES = {
+            JSONWriter.Feature.ReferenceDetection
+    };
+    private static final JSONWriter.Feature[] FORMAT_FEATURES = {
+            JSONWriter.Feature.ReferenceDetection,
+            JSONWriter.Feature.PrettyFormat,
+            JSONWriter.Feature.WriteMapNullValue,
+            JSONWriter.Feature.WriteNullListAsEmpty
+    };
+
+    private final ObjectWriterProvider provider = new ObjectWriterProvider();
+
+    public Fastjson2LogSerializer() {
+        // 截断标记和截取的报文都按toString()输出为字符串,fastjson 1.x通过JSONAware处理
+        ObjectWriter<Object> toStringWriter = (jsonWriter, object, fieldName, fieldType, features) ->
+                jsonWriter.writeString(object.toString());
+        provider.register(ValueLimiter.Marker.class, toStringWriter);
+        provider.register(CapturedBody.class, toStringWriter);
+    }
+
+    @Override
+    public void write(Object value, SerializeContext context, Writer out) {
+        JSONWriter.Context writerContext = new JSONWriter.Context(provider,
+                context.isFormat() ? FORMAT_FEATURES : FEATURES);
+        if (context.isFormat()) {
+            writerContext.setDateFormat(DatePattern.NORM_DATETIME_PATTERN.pattern());
+        }
+        try (JSONWriter writer = JSONWriter.of(writerContext)) {
+            writerContext.setValueFilter((ValueFilter) (object, name, v) -> {
+                // 超过整行字节数限制时写出会抛出异常,不再生成剩余部分
+                if (writer.size() >= FLUSH_CHARS) {
+                    writer.flushTo(out);
+                }
+                return context.property(object, name, v, writer.level());
+            });
+            Object root = context.root(value);
+            // 引用检测从根对象开始记录路径
+            writer.setRootObject(root);
+            writer.writeAny(root);
+            writer.flushTo(out);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.JSONSerializer;
+import com.alibaba.fastjson.serializer.SerialContext;
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import com.alibaba.fastjson.serializer.SerializeWriter;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.alibaba.fastjson.serializer.ValueFilter;
+
+import java.io.Writer;
+
+/**
+ * fastjson 1.x
+ * <br/>
+ * 使用全局的{@link SerializeConfig},与应用共享按类型缓存的序列化器,不修改{@link JSON#DEFAULT_GENERATE_FEATURE}
+ *
+ * @author dousx
+ * @date 2026-10-19 02:05
+ */
+public class FastjsonLogSerializer implements LogSerializer {
+    private static final SerializerFeature[] NO_FEATURES = new SerializerFeature[0];
+    private static final SerializerFeature[] FORMAT_FEATURES = {
+            SerializerFeature.PrettyFormat,
+            SerializerFeature.WriteDateUseDateFormat,
+            SerializerFeature.WriteMapNullValue,
+            SerializerFeature.WriteNullListAsEmpty
+    };
+
+    private final SerializeConfig serializeConfig;
+
+    public FastjsonLogSerializer() {
+        this(SerializeConfig.getGlobalInstance());
+    }
+
+    public FastjsonLogSerializer(SerializeConfig serializeConfig) {
+        this.serializeConfig = serializeConfig;
+    }
+
+    @Override
+    public void write(Object value, SerializeContext context, Writer out) {
+        // 缓冲区写满时写入out,由out限制字节数并提前中断
+        SerializeWriter writer = new SerializeWriter(out, JSON.DEFAULT_GENERATE_FEATURE,
+                context.isFormat() ? FORMAT_FEATURES : NO_FEATURES);
+        try {
+            JSONSerializer serializer = new JSONSerializer(writer, serializeConfig);
+            for (int i = 0; i < context.getDepth(); i++) {
+                serializer.incrementIndent();
+            }
+            serializer.getValueFilters().add((ValueFilter) (object, name, v) ->
+                    context.property(object, name, v, nesting(serializer.getContext())));
+            serializer.write(context.root(value));
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static int nesting(SerialContext context) {
+        int nesting = 0;
+        while (context != null) {
+            nesting++;
+            context = context.parent;
+        }
+        return nesting;
+    }
+}
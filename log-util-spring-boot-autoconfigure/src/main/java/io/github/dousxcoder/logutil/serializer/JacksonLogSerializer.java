@@ -0,0 +1,304 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.exchange.CapturedBody;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson,沿用应用的ObjectMapper配置(模块、命名策略、日期格式)
+ * <br/>
+ * 复制一份ObjectMapper并包装Bean属性和Map的序列化器,序列化器按类型构建一次后缓存;
+ * 未经过本类调用时(没有{@link SerializeContext})包装的序列化器与原序列化器行为一致
+ *
+ * @author dousx
+ * @date 2026-10-19 02:15
+ */
+public class JacksonLogSerializer implements LogSerializer {
+    private static final Class<SerializeContext> CONTEXT = SerializeContext.class;
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    /**
+     * 按顶层值所在深度缩进,与日志行对齐
+     */
+    private final ObjectWriter[] formatWriters = new ObjectWriter[3];
+
+    public JacksonLogSerializer(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy();
+        SimpleModule module = new SimpleModule("log-util");
+        // 截断标记和截取的报文都按toString()输出为字符串,fastjson 1.x通过JSONAware处理
+        module.addSerializer(ValueLimiter.Marker.class, ToStringSerializer.instance);
+        module.addSerializer(CapturedBody.class, ToStringSerializer.instance);
+        module.setSerializerModifier(new ContextSerializerModifier());
+        mapper.registerModule(module);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.disable(SerializationFeature.INDENT_OUTPUT);
+        // 直接引用自身时输出null,更深的循环由嵌套深度限制截断
+        mapper.disable(SerializationFeature.FAIL_ON_SELF_REFERENCES);
+        mapper.enable(SerializationFeature.WRITE_SELF_REFERENCES_AS_NULL);
+        mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.mapper = mapper;
+        this.writer = mapper.writer();
+        for (int i = 0; i < formatWriters.length; i++) {
+            formatWriters[i] = formatWriter(i);
+        }
+    }
+
+    @Override
+    public void write(Object value, SerializeContext context, Writer out) throws IOException {
+        ObjectWriter objectWriter = writer;
+        if (context.isFormat()) {
+            int depth = context.getDepth();
+            objectWriter = depth < formatWriters.length ? formatWriters[depth] : formatWriter(depth);
+        }
+        objectWriter.withAttribute(CONTEXT, context).writeValue(out, context.root(value));
+    }
+
+    private ObjectWriter formatWriter(int depth) {
+        StringBuilder eol = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            eol.append('\t');
+        }
+        DefaultIndenter indenter = new DefaultIndenter("\t", eol.toString());
+        DefaultPrettyPrinter printer = new DefaultPrettyPrinter().withoutSpacesInObjectEntries();
+        printer.indentObjectsWith(indenter);
+        printer.indentArraysWith(indenter);
+        return mapper.writer(printer);
+    }
+
+    private static int nesting(JsonStreamContext context) {
+        int nesting = 0;
+        while (context != null && !context.inRoot()) {
+            nesting++;
+            context = context.getParent();
+        }
+        return nesting;
+    }
+
+    private static class ContextSerializerModifier extends BeanSerializerModifier {
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            Map<String, String> internalNames = new HashMap<>(beanProperties.size() * 4 / 3 + 1);
+            for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+                internalNames.put(definition.getName(), definition.getInternalName());
+            }
+            for (int i = 0; i < beanProperties.size(); i++) {
+                BeanPropertyWriter writer = beanProperties.get(i);
+                String javaName = internalNames.getOrDefault(writer.getName(), writer.getName());
+                beanProperties.set(i, new ContextPropertyWriter(writer, javaName));
+            }
+            return beanProperties;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                     BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            return new ContextMapSerializer((JsonSerializer<Object>) serializer);
+        }
+    }
+
+    /**
+     * 属性值替换后按实际类型序列化,未替换时按原属性的规则写出已读取的值,不再调用一次getter
+     */
+    private static class ContextPropertyWriter extends BeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Java属性名,脱敏按它匹配,不受命名策略影响
+         */
+        private final String javaName;
+
+        ContextPropertyWriter(BeanPropertyWriter base, String javaName) {
+            super(base);
+            this.javaName = javaName;
+        }
+
+        private ContextPropertyWriter(ContextPropertyWriter base, PropertyName name) {
+            super(base, name);
+            this.javaName = base.javaName;
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new ContextPropertyWriter(this, newName);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            SerializeContext context = (SerializeContext) prov.getAttribute(CONTEXT);
+            if (context == null) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            Object value = get(bean);
+            Object replaced = context.property(bean, javaName, value, nesting(gen.getOutputContext()));
+            if (replaced == value) {
+                serializeValueAsField(bean, value, gen, prov);
+                return;
+            }
+            gen.writeFieldName(_name);
+            prov.defaultSerializeValue(replaced, gen);
+        }
+
+        /**
+         * 同{@link BeanPropertyWriter#serializeAsField},值由调用方传入
+         */
+        private void serializeValueAsField(Object bean, Object value, JsonGenerator gen, SerializerProvider prov)
+                throws Exception {
+            if (value == null) {
+                if (_suppressableValue != null && prov.includeFilterSuppressNulls(_suppressableValue)) {
+                    return;
+                }
+                if (_nullSerializer != null) {
+                    gen.writeFieldName(_name);
+                    _nullSerializer.serialize(null, gen, prov);
+                }
+                return;
+            }
+            JsonSerializer<Object> serializer = _serializer;
+            if (serializer == null) {
+                Class<?> type = value.getClass();
+                serializer = _dynamicSerializers.serializerFor(type);
+                if (serializer == null) {
+                    serializer = _findAndAddDynamic(_dynamicSerializers, type, prov);
+                }
+            }
+            if (_suppressableValue != null) {
+                if (MARKER_FOR_EMPTY == _suppressableValue) {
+                    if (serializer.isEmpty(prov, value)) {
+                        return;
+                    }
+                } else if (_suppressableValue.equals(value)) {
+                    return;
+                }
+            }
+            if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+                return;
+            }
+            gen.writeFieldName(_name);
+            if (_typeSerializer == null) {
+                serializer.serialize(value, gen, prov);
+            } else {
+                serializer.serializeWithType(value, gen, prov, _typeSerializer);
+            }
+        }
+    }
+
+    /**
+     * Map的值有替换时复制后逐个按实际类型写出,没有替换时交给原序列化器
+     */
+    private static class ContextMapSerializer extends StdSerializer<Map<?, ?>>
+            implements ContextualSerializer, ResolvableSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private final JsonSerializer<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        ContextMapSerializer(JsonSerializer<Object> delegate) {
+            super((Class<Map<?, ?>>) (Class<?>) Map.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+                throws JsonMappingException {
+            if (!(delegate instanceof ContextualSerializer)) {
+                return this;
+            }
+            JsonSerializer<?> contextual = ((ContextualSerializer) delegate).createContextual(prov, property);
+            return contextual == delegate ? this : new ContextMapSerializer((JsonSerializer<Object>) contextual);
+        }
+
+        @Override
+        public void resolve(SerializerProvider prov) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(prov);
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider prov, Map<?, ?> value) {
+            return delegate.isEmpty(prov, value);
+        }
+
+        @Override
+        public void serializeWithType(Map<?, ?> value, JsonGenerator gen, SerializerProvider prov,
+                                      TypeSerializer typeSer) throws IOException {
+            delegate.serializeWithType(value, gen, prov, typeSer);
+        }
+
+        @Override
+        public void serialize(Map<?, ?> value, JsonGenerator gen, SerializerProvider prov) throws IOException {
+            SerializeContext context = (SerializeContext) prov.getAttribute(CONTEXT);
+            Map<Object, Object> replaced = context == null ? null : replace(value, context, gen);
+            if (replaced == null) {
+                delegate.serialize(value, gen, prov);
+                return;
+            }
+            gen.writeStartObject(value);
+            for (Map.Entry<Object, Object> entry : replaced.entrySet()) {
+                prov.defaultSerializeField(String.valueOf(entry.getKey()), entry.getValue(), gen);
+            }
+            gen.writeEndObject();
+        }
+
+        /**
+         * @return 没有替换时返回null
+         */
+        private static Map<Object, Object> replace(Map<?, ?> value, SerializeContext context, JsonGenerator gen) {
+            int nesting = nesting(gen.getOutputContext()) + 1;
+            Map<Object, Object> replaced = null;
+            int i = 0;
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                Object element = entry.getValue();
+                Object result = context.property(value, String.valueOf(entry.getKey()), element, nesting);
+                if (replaced == null && result != element) {
+                    replaced = new LinkedHashMap<>(value.size() * 4 / 3 + 1);
+                    Iterator<? extends Map.Entry<?, ?>> it = value.entrySet().iterator();
+                    for (int j = 0; j < i; j++) {
+                        Map.Entry<?, ?> head = it.next();
+                        replaced.put(head.getKey(), head.getValue());
+                    }
+                }
+                if (replaced != null) {
+                    replaced.put(entry.getKey(), result);
+                }
+                i++;
+            }
+            return replaced;
+        }
+    }
+}
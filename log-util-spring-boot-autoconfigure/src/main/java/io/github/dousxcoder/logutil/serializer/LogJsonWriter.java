@@ -0,0 +1,541 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.enums.TimeFormat;
+import io.github.dousxcoder.logutil.error.ExceptionFingerprints;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.LogSpan;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.pojo.RawJson;
+import io.github.dousxcoder.logutil.utils.DateFormatUtil;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 日志行输出
+ * <br/>
+ * 一次写出整行JSON:外层字段直接写入线程复用的缓冲区,参数和结果由{@link LogSerializer}直接序列化到同一个缓冲区,
+ * 不再经过 toJSONString→正则替换→parseObject→再序列化;字符串长度、集合元素个数、嵌套深度、整行字节数在写入过程中限制,
+ * 脱敏同样在序列化过程中由{@link LogMasking}完成
+ *
+ * @author dousx
+ * @date 2026-10-18 15:20
+ */
+public class LogJsonWriter {
+    public static final String NAME = "cruder_logJsonWriter";
+
+    static final String MAX_BYTES_LIMIT = "...(more than %d bytes)";
+    /**
+     * 超出整行字节数限制时由缓冲区抛出,中断序列化;不需要堆栈
+     */
+    private static final IOException OVERFLOW = new IOException("log line exceeded max-bytes") {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    };
+    /**
+     * 超过该容量的缓冲区不再复用,避免大报文长期占用内存
+     */
+    private static final int MAX_CACHED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<LineBuffer> BUFFER = ThreadLocal.withInitial(LineBuffer::new);
+
+    private final TimeFormat timeFormat;
+    private final LogMasking masking;
+    private final LogSerializer serializer;
+    private final ExceptionFingerprints fingerprints;
+
+    public LogJsonWriter(TimeFormat timeFormat) {
+        this(timeFormat, null, new FastjsonLogSerializer(), null);
+    }
+
+    /**
+     * @param timeFormat   requestTime、finishTime的输出格式
+     * @param masking      脱敏,为null时不脱敏
+     * @param serializer   参数、结果的序列化
+     * @param fingerprints 异常指纹,为null时不输出error
+     */
+    public LogJsonWriter(TimeFormat timeFormat, LogMasking masking, LogSerializer serializer,
+                         ExceptionFingerprints fingerprints) {
+        this.timeFormat = timeFormat;
+        this.masking = masking;
+        this.serializer = serializer;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * 输出日志行
+     *
+     * @param event {@link LogEvent}
+     * @return 日志行
+     */
+    public String write(LogEvent event) {
+        return write(event, event.getMeta().isFormat(), false);
+    }
+
+    /**
+     * 输出单行记录,供直接写文件的{@code LogSink}使用
+     * <br/>
+     * 不格式化,并追加traceId、level、logger,不依赖日志框架的pattern
+     *
+     * @param event {@link LogEvent}
+     * @return 单行JSON
+     */
+    public String writeRecord(LogEvent event) {
+        return write(event, false, true);
+    }
+
+    /**
+     * 按方法的序列化限制和参数的脱敏规则输出单个参数,不格式化
+     *
+     * @param value 参数值
+     * @param meta  {@link MethodLogMeta}
+     * @param index 参数位置
+     * @return JSON
+     */
+    public String writeArg(Object value, MethodLogMeta meta, int index) {
+        return writeValue(maskParameter(value, meta, index), meta, 2);
+    }
+
+    /**
+     * 按方法的序列化限制输出单个值,不格式化
+     *
+     * @param value 参数或结果
+     * @param meta  {@link MethodLogMeta}
+     * @param depth 值所在深度,结果为1,参数为2
+     * @return JSON
+     */
+    public String writeValue(Object value, MethodLogMeta meta, int depth) {
+        LineBuffer buffer = BUFFER.get();
+        try {
+            writeValue(buffer, value, meta, false, depth);
+            return buffer.builder.toString();
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * 输出嵌套调用,供二进制记录使用
+     *
+     * @param event {@link LogEvent}
+     * @return JSON数组,没有嵌套调用时为null
+     */
+    public String writeSpans(LogEvent event) {
+        if (event.getSpans() == null) {
+            return null;
+        }
+        LineBuffer buffer = BUFFER.get();
+        try {
+            writeSpans(buffer, event.getSpans());
+            return buffer.builder.toString();
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * 输出异常,供二进制记录使用;同一事件只能调用一次,否则重复计数;
+     * {@link LogEvent#isRecordOnly()}的事件不计数,总是带完整堆栈
+     *
+     * @param event {@link LogEvent}
+     * @return JSON对象,没有异常或未启用时为null
+     */
+    public String writeError(LogEvent event) {
+        if (event.getError() == null || fingerprints == null && !(event.getError() instanceof RawJson)) {
+            return null;
+        }
+        LineBuffer buffer = BUFFER.get();
+        try {
+            writeError(buffer.builder, event.getError(), event.isRecordOnly());
+            return buffer.builder.toString();
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private String write(LogEvent event, boolean format, boolean record) {
+        LineBuffer buffer = BUFFER.get();
+        try {
+            writeLine(event, buffer, format, record);
+            return buffer.builder.toString();
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private void writeLine(LogEvent event, LineBuffer buffer, boolean format, boolean record) {
+        MethodLogMeta meta = event.getMeta();
+        StringBuilder sb = buffer.builder;
+        sb.append('{');
+        int fields = 0;
+        fields = stringField(sb, fields, format, "describe", meta.getDescribe());
+        if (!event.isSummary()) {
+            fieldName(sb, fields++, format, "requestParam");
+            writeParams(buffer, event.getArgs(), meta, format);
+            if (event.getResult() != null || format) {
+                fieldName(sb, fields++, format, "responseResult");
+                writeValue(buffer, event.getResult(), meta, format, 1);
+            }
+            if (event.getSpans() != null) {
+                fieldName(sb, fields++, format, "spans");
+                writeSpans(buffer, event.getSpans());
+            }
+        }
+        if (event.getDroppedSpans() > 0) {
+            fieldName(sb, fields++, format, "droppedSpans");
+            sb.append(event.getDroppedSpans());
+        }
+        if (event.getError() != null && (fingerprints != null || event.getError() instanceof RawJson)) {
+            fieldName(sb, fields++, format, "error");
+            writeError(sb, event.getError(), event.isRecordOnly());
+        }
+        fields = stringField(sb, fields, format, "processingTime", (event.getEndTime() - event.getStartTime()) + "ms");
+        fields = timeField(sb, fields, format, "requestTime", event.getStartTime());
+        fields = timeField(sb, fields, format, "finishTime", event.getEndTime());
+        fields = stringField(sb, fields, format, "uri", event.getUri());
+        fields = stringField(sb, fields, format, "httpMethod", event.getHttpMethod());
+        fields = stringField(sb, fields, format, "classMethod", meta.getClassMethod());
+        fields = stringField(sb, fields, format, "ip", event.getIp());
+        if (record) {
+            fields = stringField(sb, fields, false, "traceId", event.getTraceId());
+            fields = stringField(sb, fields, false, "level", meta.getLevel().level());
+            stringField(sb, fields, false, "logger", meta.getLogger().getName());
+        }
+        if (format) {
+            sb.append('\n');
+        }
+        sb.append('}');
+    }
+
+    /**
+     * 按参数名顺序直接写出,不再组装中间Map
+     */
+    private void writeParams(LineBuffer buffer, Object[] args, MethodLogMeta meta, boolean format) {
+        StringBuilder sb = buffer.builder;
+        String[] parameterNames = meta.getParameterNames();
+        if (args == null || args.length == 0 || args.length != parameterNames.length) {
+            sb.append("{}");
+            return;
+        }
+        sb.append('{');
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == null && !format) {
+                continue;
+            }
+            if (sb.charAt(sb.length() - 1) != '{') {
+                sb.append(',');
+            }
+            if (format) {
+                newLine(sb, 2);
+            }
+            appendString(sb, parameterNames[i]);
+            sb.append(':');
+            writeValue(buffer, maskParameter(args[i], meta, i), meta, format, 2);
+        }
+        if (format && sb.charAt(sb.length() - 1) != '{') {
+            newLine(sb, 1);
+        }
+        sb.append('}');
+    }
+
+    /**
+     * 嵌套调用不格式化,参数按各自方法的序列化限制和脱敏规则输出
+     */
+    @SuppressWarnings("unchecked")
+    private void writeSpans(LineBuffer buffer, Object spans) {
+        StringBuilder sb = buffer.builder;
+        if (spans instanceof RawJson) {
+            sb.append(((RawJson) spans).toJSONString());
+            return;
+        }
+        sb.append('[');
+        for (LogSpan span : (List<LogSpan>) spans) {
+            if (sb.charAt(sb.length() - 1) != '[') {
+                sb.append(',');
+            }
+            MethodLogMeta meta = span.getMeta();
+            sb.append('{');
+            int fields = stringField(sb, 0, false, "classMethod", meta.getClassMethod());
+            if (meta.getDescribe() != null && !meta.getDescribe().isEmpty()) {
+                fields = stringField(sb, fields, false, "describe", meta.getDescribe());
+            }
+            fieldName(sb, fields++, false, "offsetMicros");
+            sb.append(span.getOffsetNanos() / 1000);
+            fieldName(sb, fields++, false, "costMicros");
+            sb.append(span.getDurationNanos() / 1000);
+            if (span.isError()) {
+                fieldName(sb, fields++, false, "error");
+                sb.append(true);
+            }
+            if (span.getArgs() != null) {
+                fieldName(sb, fields++, false, "requestParam");
+                writeParams(buffer, span.getArgs(), meta, false);
+            }
+            if (span.getChildren() != null) {
+                fieldName(sb, fields, false, "spans");
+                writeSpans(buffer, span.getChildren());
+            }
+            sb.append('}');
+        }
+        sb.append(']');
+    }
+
+    /**
+     * 同一指纹在周期内首次出现时带完整堆栈,之后只有指纹和次数
+     *
+     * @param recordOnly 不输出的事件,不计数也不占用首次出现,只输出指纹和完整堆栈
+     */
+    private void writeError(StringBuilder sb, Object error, boolean recordOnly) {
+        if (error instanceof RawJson) {
+            sb.append(((RawJson) error).toJSONString());
+            return;
+        }
+        ExceptionFingerprints.Occurrence occurrence = recordOnly
+                ? fingerprints.describe((Throwable) error) : fingerprints.record((Throwable) error);
+        sb.append('{');
+        int fields = stringField(sb, 0, false, "type", occurrence.getType());
+        fields = stringField(sb, fields, false, "fingerprint", occurrence.getFingerprint());
+        if (occurrence.getCount() > 0) {
+            fieldName(sb, fields++, false, "count");
+            sb.append(occurrence.getCount());
+        }
+        stringField(sb, fields, false, "stackTrace", occurrence.getStackTrace());
+        sb.append('}');
+    }
+
+    private Object maskParameter(Object value, MethodLogMeta meta, int index) {
+        return masking == null ? value : masking.maskParameter(meta, index, value);
+    }
+
+    /**
+     * 序列化参数或结果并追加到日志行
+     *
+     * @param depth 值所在深度,日志行的字段为1
+     */
+    private void writeValue(LineBuffer buffer, Object value, MethodLogMeta meta, boolean format, int depth) {
+        LogLimits limits = meta.getLimits();
+        StringBuilder sb = buffer.builder;
+        int budget = LogLimits.UNLIMITED;
+        if (limits.getMaxBytes() != LogLimits.UNLIMITED) {
+            budget = limits.getMaxBytes() - buffer.bytes();
+            if (budget <= 0) {
+                appendString(sb, String.format(MAX_BYTES_LIMIT, limits.getMaxBytes()));
+                return;
+            }
+        }
+        int start = sb.length();
+        try {
+            if (budget != LogLimits.UNLIMITED) {
+                // 字符数不超过字节数,按剩余字节数限制字符数可以提前中断
+                buffer.limit = start + budget;
+            }
+            if (value instanceof RawJson) {
+                // 从二进制记录恢复的值已经序列化过,不经过LogSerializer,其他实现不认识JSONAware
+                sb.append(((RawJson) value).toJSONString());
+            } else {
+                serializer.write(value, new SerializeContext(limits, masking, format, depth), buffer);
+            }
+            if (budget != LogLimits.UNLIMITED && buffer.bytes() > limits.getMaxBytes()) {
+                buffer.truncate(start);
+                appendString(sb, String.format(MAX_BYTES_LIMIT, limits.getMaxBytes()));
+            }
+        } catch (Exception e) {
+            buffer.truncate(start);
+            if (isOverflow(e)) {
+                appendString(sb, String.format(MAX_BYTES_LIMIT, limits.getMaxBytes()));
+            } else {
+                sb.append("null");
+                Logger appointLog = meta.getLogger();
+                if (appointLog.isTraceEnabled()) {
+                    appointLog.trace("参数转换异常:{}", String.valueOf(value), e);
+                }
+            }
+        } finally {
+            buffer.limit = LogLimits.UNLIMITED;
+        }
+    }
+
+    /**
+     * 序列化器可能包装写入时的异常
+     */
+    private static boolean isOverflow(Throwable e) {
+        while (e != null) {
+            if (e == OVERFLOW) {
+                return true;
+            }
+            e = e.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 写出字符串字段,格式化输出时保留null字段
+     *
+     * @return 已写出的字段数
+     */
+    private static int stringField(StringBuilder sb, int fields, boolean format, String name, String value) {
+        if (value == null && !format) {
+            return fields;
+        }
+        fieldName(sb, fields, format, name);
+        if (value == null) {
+            sb.append("null");
+        } else {
+            appendString(sb, value);
+        }
+        return fields + 1;
+    }
+
+    private int timeField(StringBuilder sb, int fields, boolean format, String name, long epochMillis) {
+        fieldName(sb, fields, format, name);
+        if (TimeFormat.EPOCH_MILLIS.equals(timeFormat)) {
+            sb.append(epochMillis);
+        } else {
+            sb.append('"');
+            DateFormatUtil.formatTo(sb, epochMillis);
+            sb.append('"');
+        }
+        return fields + 1;
+    }
+
+    private static void fieldName(StringBuilder sb, int fields, boolean format, String name) {
+        if (fields > 0) {
+            sb.append(',');
+        }
+        if (format) {
+            newLine(sb, 1);
+        }
+        appendString(sb, name);
+        sb.append(':');
+    }
+
+    private static void newLine(StringBuilder sb, int indent) {
+        sb.append('\n');
+        for (int i = 0; i < indent; i++) {
+            sb.append('\t');
+        }
+    }
+
+    static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0, len = value.length(); i < len; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append("\\u00");
+                        sb.append(Character.forDigit(c >> 4, 16));
+                        sb.append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * 线程复用的日志行缓冲区
+     */
+    private static final class LineBuffer extends Writer {
+        private StringBuilder builder = new StringBuilder(1024);
+        /**
+         * 序列化时最多写到的字符位置,超出时抛出{@link #OVERFLOW}
+         */
+        private int limit = LogLimits.UNLIMITED;
+        /**
+         * 已统计字节数的字符位置
+         */
+        private int measured;
+        private int bytes;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (limit != LogLimits.UNLIMITED && builder.length() + len > limit) {
+                throw OVERFLOW;
+            }
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (limit != LogLimits.UNLIMITED && builder.length() + len > limit) {
+                throw OVERFLOW;
+            }
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /**
+         * 按UTF-8计算已写入的字节数,只统计新增部分
+         */
+        private int bytes() {
+            for (int len = builder.length(); measured < len; measured++) {
+                char c = builder.charAt(measured);
+                if (c < 0x80) {
+                    bytes++;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && measured + 1 < len) {
+                    bytes += 4;
+                    measured++;
+                } else {
+                    bytes += 3;
+                }
+            }
+            return bytes;
+        }
+
+        private void truncate(int length) {
+            if (length < measured) {
+                measured = 0;
+                bytes = 0;
+            }
+            builder.setLength(length);
+        }
+
+        private void reset() {
+            measured = 0;
+            bytes = 0;
+            if (builder.capacity() > MAX_CACHED_CAPACITY) {
+                builder = new StringBuilder(1024);
+            } else {
+                builder.setLength(0);
+            }
+        }
+    }
+}
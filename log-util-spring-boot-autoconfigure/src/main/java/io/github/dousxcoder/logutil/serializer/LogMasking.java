@@ -0,0 +1,212 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.annotation.LogMask;
+import io.github.dousxcoder.logutil.enums.MaskType;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import com.alibaba.fastjson.JSONAware;
+import com.alibaba.fastjson.annotation.JSONField;
+import com.alibaba.fastjson.serializer.ValueFilter;
+import org.springframework.util.PatternMatchUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 脱敏
+ * <br/>
+ * 作为fastjson的{@link ValueFilter}在序列化过程中替换字段值,不对输出的JSON再做字符串处理;
+ * 每个类的{@code @LogMask}只解析一次,按名称匹配的结果按名称缓存,无状态,所有序列化共用一个实例
+ *
+ * @author dousx
+ * @date 2026-10-19 01:20
+ */
+public class LogMasking implements ValueFilter {
+    /**
+     * Map的key可能是任意数据,缓存的名称数超过该值后不再缓存
+     */
+    private static final int MAX_CACHED_NAMES = 4096;
+    private static final MaskRule NONE = new MaskRule(MaskType.CUSTOM, 0, 0);
+    private static final MaskRule[] NO_PARAMETERS = new MaskRule[0];
+    /**
+     * 注解与配置无关,所有实例共用;按类缓存,类卸载时随之回收
+     */
+    private static final ClassValue<Map<String, MaskRule>> BY_CLASS = new ClassValue<Map<String, MaskRule>>() {
+        @Override
+        protected Map<String, MaskRule> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * 与{@link #rules}一一对应,已转为小写
+     */
+    private final String[][] patterns;
+    private final MaskRule[] rules;
+    private final ConcurrentHashMap<String, MaskRule> byName = new ConcurrentHashMap<>(256);
+    private final ConcurrentHashMap<Method, MaskRule[]> byMethod = new ConcurrentHashMap<>(256);
+
+    public LogMasking(List<LogProperties.MaskField> fields) {
+        this.patterns = new String[fields.size()][];
+        this.rules = new MaskRule[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            LogProperties.MaskField field = fields.get(i);
+            String[] names = new String[field.getNames().size()];
+            for (int j = 0; j < names.length; j++) {
+                names[j] = field.getNames().get(j).trim().toLowerCase(Locale.ROOT);
+            }
+            this.patterns[i] = names;
+            this.rules[i] = new MaskRule(field.getType(), field.getKeepFirst(), field.getKeepLast());
+        }
+    }
+
+    /**
+     * @param properties log-util.mask
+     * @return 未启用时返回null
+     */
+    public static LogMasking create(LogProperties.Mask properties) {
+        return properties.isEnabled() ? new LogMasking(properties.getFields()) : null;
+    }
+
+    /**
+     * 对象的属性和Map的值,fastjson回调
+     */
+    @Override
+    public Object process(Object object, String name, Object value) {
+        if (value == null || name == null || value instanceof JSONAware) {
+            return value;
+        }
+        MaskRule rule = null;
+        if (object != null && !(object instanceof Map)) {
+            rule = BY_CLASS.get(object.getClass()).get(name);
+        }
+        if (rule == null) {
+            rule = byName(name);
+        }
+        return rule == null ? value : rule.mask(value);
+    }
+
+    /**
+     * 方法参数,参数上的{@code @LogMask}优先,其次按参数名
+     *
+     * @param meta  {@link MethodLogMeta}
+     * @param index 参数位置
+     * @param value 参数值
+     * @return 脱敏后的值,不需要脱敏时原样返回
+     */
+    public Object maskParameter(MethodLogMeta meta, int index, Object value) {
+        if (value == null || value instanceof JSONAware) {
+            return value;
+        }
+        MaskRule rule;
+        Method method = meta.getMethod();
+        if (method == null) {
+            rule = byName(meta.getParameterNames()[index]);
+        } else {
+            MaskRule[] parameters = byMethod.get(method);
+            if (parameters == null) {
+                parameters = byMethod.computeIfAbsent(method, m -> compile(m, meta.getParameterNames()));
+            }
+            rule = index < parameters.length ? parameters[index] : null;
+        }
+        return rule == null ? value : rule.mask(value);
+    }
+
+    private MaskRule byName(String name) {
+        if (rules.length == 0) {
+            return null;
+        }
+        MaskRule rule = byName.get(name);
+        if (rule == null) {
+            rule = match(name.toLowerCase(Locale.ROOT));
+            if (byName.size() < MAX_CACHED_NAMES) {
+                byName.put(name, rule);
+            }
+        }
+        return rule == NONE ? null : rule;
+    }
+
+    private MaskRule match(String name) {
+        for (int i = 0; i < rules.length; i++) {
+            for (String pattern : patterns[i]) {
+                if (PatternMatchUtils.simpleMatch(pattern, name)) {
+                    return rules[i];
+                }
+            }
+        }
+        return NONE;
+    }
+
+    private MaskRule[] compile(Method method, String[] parameterNames) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        MaskRule[] parameters = new MaskRule[parameterNames.length];
+        boolean masked = false;
+        for (int i = 0; i < parameters.length; i++) {
+            LogMask logMask = i < annotations.length ? find(annotations[i]) : null;
+            parameters[i] = logMask != null ? rule(logMask) : byName(parameterNames[i]);
+            masked |= parameters[i] != null;
+        }
+        return masked ? parameters : NO_PARAMETERS;
+    }
+
+    /**
+     * 字段和getter上的{@code @LogMask},按Java属性名和{@code @JSONField}指定的名称查找
+     */
+    private static Map<String, MaskRule> compile(Class<?> type) {
+        if (type.isArray() || type.getName().startsWith("java.")) {
+            return Collections.emptyMap();
+        }
+        Map<String, MaskRule> rules = new HashMap<>(8);
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                LogMask logMask = field.getAnnotation(LogMask.class);
+                if (logMask != null) {
+                    put(rules, field.getAnnotation(JSONField.class), field.getName(), rule(logMask));
+                }
+            }
+        }
+        for (Method method : type.getMethods()) {
+            LogMask logMask = method.getAnnotation(LogMask.class);
+            String name = logMask == null || method.getParameterCount() != 0 ? null : getterName(method.getName());
+            if (name != null) {
+                put(rules, method.getAnnotation(JSONField.class), name, rule(logMask));
+            }
+        }
+        return rules.isEmpty() ? Collections.emptyMap() : rules;
+    }
+
+    private static void put(Map<String, MaskRule> rules, JSONField jsonField, String name, MaskRule rule) {
+        rules.putIfAbsent(name, rule);
+        if (jsonField != null && !jsonField.name().isEmpty()) {
+            rules.putIfAbsent(jsonField.name(), rule);
+        }
+    }
+
+    private static String getterName(String methodName) {
+        int prefix = methodName.startsWith("get") ? 3 : methodName.startsWith("is") ? 2 : 0;
+        if (prefix == 0 || methodName.length() == prefix) {
+            return null;
+        }
+        return Character.toLowerCase(methodName.charAt(prefix)) + methodName.substring(prefix + 1);
+    }
+
+    private static LogMask find(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof LogMask) {
+                return (LogMask) annotation;
+            }
+        }
+        return null;
+    }
+
+    private static MaskRule rule(LogMask logMask) {
+        return new MaskRule(logMask.value(), logMask.keepFirst(), logMask.keepLast());
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 参数、结果的JSON序列化
+ * <br/>
+ * 日志行的外层字段由{@link LogJsonWriter}直接写出,只有参数和结果交给实现;实现是单例,
+ * 配置只构建一次,按类型缓存的序列化器在所有调用间复用,会被多个日志线程同时调用。
+ * 应用定义了该类型的Bean时替换内置实现
+ * <br/>
+ * 实现需要在写入对象的属性值和Map的值之前调用{@link SerializeContext#property},脱敏和截断在其中完成;
+ * 截断标记按{@code toString()}输出为字符串
+ *
+ * @author dousx
+ * @date 2026-10-19 02:00
+ */
+public interface LogSerializer {
+    String NAME = "cruder_logSerializer";
+
+    /**
+     * 序列化一个参数或结果
+     *
+     * @param value   值,为null时输出null
+     * @param context 本次序列化的格式、限制和脱敏
+     * @param out     输出,超过整行字节数限制时写入会抛出异常,实现不需要捕获
+     * @throws IOException 写入失败
+     */
+    void write(Object value, SerializeContext context, Writer out) throws IOException;
+}
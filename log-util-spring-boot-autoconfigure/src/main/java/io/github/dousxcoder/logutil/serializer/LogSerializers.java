@@ -0,0 +1,40 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.springframework.util.ClassUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 创建内置的{@link LogSerializer}
+ *
+ * @author dousx
+ * @date 2026-10-19 02:20
+ */
+public final class LogSerializers {
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(LogSerializers.class);
+    private static final String FASTJSON2_CLASS = "com.alibaba.fastjson2.JSONWriter";
+
+    private LogSerializers() {
+    }
+
+    /**
+     * @param type         log-util.serializer
+     * @param objectMapper 应用的ObjectMapper,只在{@link SerializerType#JACKSON}时获取
+     * @return {@link LogSerializer}
+     */
+    public static LogSerializer create(SerializerType type, Supplier<ObjectMapper> objectMapper) {
+        if (SerializerType.JACKSON.equals(type)) {
+            return new JacksonLogSerializer(objectMapper.get());
+        }
+        if (SerializerType.FASTJSON2.equals(type)) {
+            if (ClassUtils.isPresent(FASTJSON2_CLASS, LogSerializers.class.getClassLoader())) {
+                return new Fastjson2LogSerializer();
+            }
+            log.warn("未找到fastjson2,参数、结果改用fastjson序列化");
+        }
+        return new FastjsonLogSerializer();
+    }
+}
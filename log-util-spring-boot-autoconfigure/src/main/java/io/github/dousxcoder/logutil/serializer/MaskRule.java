@@ -0,0 +1,91 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.enums.MaskType;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 一条脱敏规则,不可变,可以在线程间共享
+ *
+ * @author dousx
+ * @date 2026-10-19 01:10
+ */
+final class MaskRule {
+    static final String FULL = "******";
+    private static final char MASK_CHAR = '*';
+
+    private final MaskType type;
+    private final int keepFirst;
+    private final int keepLast;
+
+    MaskRule(MaskType type, int keepFirst, int keepLast) {
+        this.type = type;
+        if (MaskType.CUSTOM.equals(type)) {
+            this.keepFirst = Math.max(0, keepFirst);
+            this.keepLast = Math.max(0, keepLast);
+        } else {
+            this.keepFirst = type.keepFirst();
+            this.keepLast = type.keepLast();
+        }
+    }
+
+    /**
+     * @param value 非null
+     * @return 脱敏后的值:文本、数字为字符串,集合、数组为逐个元素脱敏后的列表,其他为{@link #FULL}
+     */
+    Object mask(Object value) {
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Character) {
+            return mask(value.toString());
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> masked = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                masked.add(element == null ? null : mask(element));
+            }
+            return masked;
+        }
+        if (value instanceof Object[]) {
+            int length = Array.getLength(value);
+            List<Object> masked = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object element = Array.get(value, i);
+                masked.add(element == null ? null : mask(element));
+            }
+            return masked;
+        }
+        return FULL;
+    }
+
+    String mask(String value) {
+        if (MaskType.ALL.equals(type)) {
+            return FULL;
+        }
+        if (MaskType.EMAIL.equals(type)) {
+            int at = value.indexOf('@');
+            if (at > 0) {
+                return keep(value.substring(0, at), keepFirst, 0) + value.substring(at);
+            }
+        }
+        return keep(value, keepFirst, keepLast);
+    }
+
+    private static String keep(String value, int first, int last) {
+        int length = value.length();
+        StringBuilder sb = new StringBuilder(length);
+        if (first + last >= length) {
+            for (int i = 0; i < length; i++) {
+                sb.append(MASK_CHAR);
+            }
+            return sb.toString();
+        }
+        sb.append(value, 0, first);
+        for (int i = first; i < length - last; i++) {
+            sb.append(MASK_CHAR);
+        }
+        return sb.append(value, length - last, length).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+
+/**
+ * 一次序列化的格式、限制和脱敏
+ * <br/>
+ * {@link LogJsonWriter}为每个参数或结果创建,{@link LogSerializer}在写入过程中回调
+ *
+ * @author dousx
+ * @date 2026-10-19 02:00
+ */
+public final class SerializeContext {
+    private final ValueLimiter limiter;
+    private final LogMasking masking;
+    private final boolean format;
+    private final int depth;
+
+    SerializeContext(LogLimits limits, LogMasking masking, boolean format, int depth) {
+        this.limiter = new ValueLimiter(limits);
+        this.masking = masking;
+        this.format = format;
+        this.depth = depth;
+    }
+
+    /**
+     * @return 是否格式化输出
+     */
+    public boolean isFormat() {
+        return format;
+    }
+
+    /**
+     * @return 顶层值所在深度,结果为1,参数为2;格式化输出时按此缩进
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * 顶层值,序列化前调用一次
+     *
+     * @param value 参数或结果
+     * @return 截断后的值
+     */
+    public Object root(Object value) {
+        return limiter.limit(value, depth);
+    }
+
+    /**
+     * 对象的属性值和Map的值,先脱敏再截断
+     *
+     * @param owner   所属对象或Map
+     * @param name    属性名或key
+     * @param value   值
+     * @param nesting 已进入的对象、集合层数,包括owner
+     * @return 替换后的值,不需要处理时原样返回
+     */
+    public Object property(Object owner, String name, Object value, int nesting) {
+        if (masking != null) {
+            value = masking.process(owner, name, value);
+        }
+        return limiter.limit(value, depth + nesting);
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.dousxcoder.logutil.serializer;
+
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONAware;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 序列化过程中截断长字符串和集合、限制嵌套深度
+ * <br/>
+ * 序列化器只对字段值和Map的值回调,集合、数组的元素在这里展开处理,只有需要截断时才复制
+ *
+ * @author dousx
+ * @date 2026-10-18 15:10
+ */
+final class ValueLimiter {
+    static final String MORE = "...(%d more)";
+    static final Marker DEPTH_LIMIT = new Marker("...(depth limit)");
+
+    private final LogLimits limits;
+
+    ValueLimiter(LogLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * @param value 值
+     * @param depth 值所在深度,日志行的字段为1
+     * @return 限制后的值
+     */
+    Object limit(Object value, int depth) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return limitString((String) value);
+        }
+        if (value instanceof JSONAware || isScalar(value)) {
+            return value;
+        }
+        if (limits.getMaxDepth() != LogLimits.UNLIMITED && depth > limits.getMaxDepth()) {
+            return DEPTH_LIMIT;
+        }
+        if (value instanceof Collection) {
+            return limitCollection((Collection<?>) value, depth);
+        }
+        if (value instanceof Map) {
+            return limitMap((Map<?, ?>) value);
+        }
+        if (value.getClass().isArray()) {
+            return limitArray(value, depth);
+        }
+        return value;
+    }
+
+    private String limitString(String value) {
+        int max = limits.getMaxStringLength();
+        if (max == LogLimits.UNLIMITED || value.length() <= max) {
+            return value;
+        }
+        int end = max;
+        if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(0, end) + String.format(MORE, value.length() - end);
+    }
+
+    private Object limitCollection(Collection<?> value, int depth) {
+        int size = value.size();
+        int max = maxElements(size);
+        List<Object> limited = null;
+        int i = 0;
+        for (Iterator<?> it = value.iterator(); i < max && it.hasNext(); i++) {
+            Object element = it.next();
+            Object replaced = limit(element, depth + 1);
+            if (limited == null && replaced != element) {
+                limited = copyHead(value, i, max);
+            }
+            if (limited != null) {
+                limited.add(replaced);
+            }
+        }
+        if (max < size) {
+            if (limited == null) {
+                limited = copyHead(value, max, max);
+            }
+            limited.add(more(size - max));
+        }
+        return limited == null ? value : limited;
+    }
+
+    private Object limitArray(Object value, int depth) {
+        int size = Array.getLength(value);
+        int max = maxElements(size);
+        boolean primitive = value.getClass().getComponentType().isPrimitive();
+        if (primitive && max == size) {
+            return value;
+        }
+        List<Object> limited = null;
+        for (int i = 0; i < max; i++) {
+            Object element = Array.get(value, i);
+            Object replaced = primitive ? element : limit(element, depth + 1);
+            if (limited == null && (primitive || replaced != element)) {
+                limited = new ArrayList<>(max + 1);
+                for (int j = 0; j < i; j++) {
+                    limited.add(Array.get(value, j));
+                }
+            }
+            if (limited != null) {
+                limited.add(replaced);
+            }
+        }
+        if (max < size) {
+            if (limited == null) {
+                limited = new ArrayList<>(max + 1);
+                for (int j = 0; j < max; j++) {
+                    limited.add(Array.get(value, j));
+                }
+            }
+            limited.add(more(size - max));
+        }
+        return limited == null ? value : limited;
+    }
+
+    /**
+     * Map的值由序列化器回调时处理,这里只截断个数
+     */
+    private Object limitMap(Map<?, ?> value) {
+        int size = value.size();
+        int max = maxElements(size);
+        if (max == size) {
+            return value;
+        }
+        Map<Object, Object> limited = new LinkedHashMap<>(max * 4 / 3 + 2);
+        int i = 0;
+        for (Iterator<? extends Map.Entry<?, ?>> it = value.entrySet().iterator(); i < max && it.hasNext(); i++) {
+            Map.Entry<?, ?> entry = it.next();
+            limited.put(entry.getKey(), entry.getValue());
+        }
+        limited.put("...", more(size - max));
+        return limited;
+    }
+
+    private static Marker more(int count) {
+        return new Marker(String.format(MORE, count));
+    }
+
+    private int maxElements(int size) {
+        int max = limits.getMaxCollectionElements();
+        return max == LogLimits.UNLIMITED ? size : Math.min(max, size);
+    }
+
+    private static List<Object> copyHead(Collection<?> value, int count, int max) {
+        List<Object> head = new ArrayList<>(max + 1);
+        Iterator<?> it = value.iterator();
+        for (int i = 0; i < count; i++) {
+            head.add(it.next());
+        }
+        return head;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof CharSequence || value instanceof java.util.Date
+                || value instanceof java.time.temporal.TemporalAccessor;
+    }
+
+    /**
+     * 截断标记,按{@link #toString()}原样输出为字符串,不再受长度限制
+     */
+    static final class Marker implements JSONAware {
+        private final String text;
+
+        Marker(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toJSONString() {
+            return JSON.toJSONString(text);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
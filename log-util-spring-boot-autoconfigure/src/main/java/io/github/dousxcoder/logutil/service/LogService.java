@@ -1,249 +1,84 @@
 package io.github.dousxcoder.logutil.service;
 
-import io.github.dousxcoder.logutil.annotation.AopLogger;
-import io.github.dousxcoder.logutil.autoconfiguration.TaskExecutorConfigurer;
-import io.github.dousxcoder.logutil.constant.LogConstant;
+import io.github.dousxcoder.logutil.dispatcher.LogDispatcher;
 import io.github.dousxcoder.logutil.enums.LevelEnum;
-import io.github.dousxcoder.logutil.pojo.LogInfo;
-import io.github.dousxcoder.logutil.utils.DateFormatUtil;
-import io.github.dousxcoder.logutil.utils.NetworkUtil;
-import com.alibaba.fastjson.JSON;
-import com.alibaba.fastjson.serializer.SerializeConfig;
-import com.alibaba.fastjson.serializer.SerializerFeature;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.reflect.MethodSignature;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.recorder.FlightRecorder;
+import io.github.dousxcoder.logutil.sink.LogSink;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.util.ObjectUtils;
-import org.springframework.web.multipart.MultipartFile;
-
-import javax.servlet.http.HttpServletRequest;
-import java.lang.reflect.Method;
-import java.util.Date;
-import java.util.HashMap;
 
 /**
  * @author dousx
  */
+@AllArgsConstructor
 public class LogService {
     public static final String NAME = "cruder_logService";
     private static final Logger defLog = org.slf4j.LoggerFactory.getLogger(LogService.class);
+
+    private final LogMetrics logMetrics;
+    private final LogSink logSink;
     /**
-     * 说明：以引号开始，只包含字母数字或+-=的一串字，长度超过1024，最小匹配，以引号结束
+     * 未开启log-util.recorder时为null
      */
-    public static final String PATTERN = "\"[\\w+-=]{1024,}?\"";
-    public static final String REPLACE = "\"very long (more than 1024)\"";
+    private final FlightRecorder flightRecorder;
 
     /**
-     * 异步记录日志,是避免拼接参数影响响应时间
+     * 记录日志,由{@link LogDispatcher}在日志线程上调用,是避免拼接参数影响响应时间
+     * <br/>
+     * 只依赖请求线程上采集的{@link LogEvent},不再访问请求对象;执行期间恢复事件中的{@link TraceContext}
+     * <br/>
+     * {@link LogEvent#isRecordOnly()}的事件只写入{@link FlightRecorder},不计入处理数
      *
-     * @param point     {@link ProceedingJoinPoint}
-     * @param result    result
-     * @param request   {@link HttpServletRequest}
-     * @param startTime 请求时间
-     * @param endTime   完成时间
-     * @param traceId   traceId需要传递当前线程
+     * @param event {@link LogEvent}
      */
-    @Async(TaskExecutorConfigurer.LOG_POOL)
-    public void recordLog(ProceedingJoinPoint point, Object result, HttpServletRequest request, long startTime, long endTime, String traceId) {
+    public void recordLog(LogEvent event) {
+        if (event.isRecordOnly()) {
+            flightRecorder.record(event);
+            flightRecorder.trigger(event);
+            return;
+        }
+        long begin = System.nanoTime();
+        TraceContext previous = TraceContext.attach(event.getTrace());
         try {
-            MDC.put(LogConstant.TRACE_ID, traceId);
-            AopLogger controllerLog = getAopLogger(point);
-            LevelEnum level = aopLoggerLevel(controllerLog);
-            Logger appointLog = appointLog(controllerLog);
-            if (!checkPrintLog(level, appointLog)) {
-                return;
+            MethodLogMeta meta = event.getMeta();
+            if (checkPrintLog(meta.getLevel(), meta.getLogger())) {
+                logSink.write(event);
             }
-            String describe = getAopLogDescribe(controllerLog);
-            String declaringTypeName = point.getSignature().getDeclaringTypeName();
-            String sigName = point.getSignature().getName();
-            String method = request.getMethod();
-            Object[] pointArgs = point.getArgs();
-            HashMap<Object, Object> requestParamMap = new HashMap<>();
-            String[] parameterNames = ((MethodSignature) point.getSignature()).getParameterNames();
-            if (pointArgs != null && parameterNames != null && pointArgs.length != 0 && pointArgs.length == parameterNames.length) {
-                // parameterNames是参数名
-                // pointArgs是参数值 一一对应
-                for (int i = 0; i < pointArgs.length; i++) {
-                    if (pointArgs[i] instanceof MultipartFile) {
-                        MultipartFile mf = (MultipartFile) pointArgs[i];
-                        HashMap<String, Object> hashMap = new HashMap<>(4);
-                        hashMap.put("size", mf.getSize());
-                        hashMap.put("originalFilename", mf.getOriginalFilename());
-                        hashMap.put("contentType", mf.getContentType());
-                        hashMap.put("name", mf.getName());
-                        requestParamMap.put(parameterNames[i], hashMap);
-                        continue;
-                    }
-                    requestParamMap.put(parameterNames[i], pointArgs[i]);
-                }
+            if (flightRecorder != null) {
+                flightRecorder.trigger(event);
             }
-
-            Boolean ignoreLongText = ignoreLongText(controllerLog);
-            LogInfo logInfo = LogInfo.builder()
-                    .describe(describe)
-                    .requestParam(getObject(requestParamMap, ignoreLongText, appointLog))
-                    .responseResult(getObject(result, ignoreLongText, appointLog))
-                    .processingTime((endTime - startTime) + "ms")
-                    .requestTime(DateFormatUtil.format(new Date(startTime)))
-                    .finishTime(DateFormatUtil.format(new Date(endTime)))
-                    .uri(request.getRequestURI())
-                    .httpMethod(method)
-                    .classMethod(declaringTypeName + "." + sigName)
-                    .ip(NetworkUtil.getIpAddress(request))
-                    .build();
-            printLog(logInfo, level, appointLog, isFormat(controllerLog));
         } finally {
-            MDC.remove(LogConstant.TRACE_ID);
+            TraceContext.restore(previous);
+            logMetrics.processed(System.nanoTime() - begin);
         }
 
     }
 
-    private Boolean checkPrintLog(LevelEnum aopLogLevel, Logger log) {
-        if (log.isDebugEnabled() && (LevelEnum.DEBUG.equals(aopLogLevel) || LevelEnum.INFO.equals(aopLogLevel))) {
-            return true;
-        }
-        if (log.isInfoEnabled() && LevelEnum.INFO.equals(aopLogLevel)) {
-            return true;
-        }
-        return false;
-    }
-
-    private Logger appointLog(AopLogger controllerLog) {
-        String appointLogName = appointLogName(controllerLog);
-        Logger appointLog = defLog;
-        if (!ObjectUtils.isEmpty(appointLogName)) {
-            try {
-                Logger logger = LoggerFactory.getLogger(appointLogName);
-                if (logger != null) {
-                    appointLog = logger;
-                }
-            } catch (Throwable e) {
-                defLog.warn("获取指定Logger失败:{},采用默认Logger:{}", appointLogName, defLog);
-            }
-        }
-        return appointLog;
-    }
-
-    private Object getObject(Object obj, Boolean ignoreLongText, Logger appointLog) {
-        Object result = null;
+    /**
+     * 分发器处理完一批事件
+     */
+    public void endOfBatch() {
         try {
-            if (ignoreLongText) {
-                result = JSON.toJSONString(obj).replaceAll(PATTERN, REPLACE);
-            } else {
-                result = JSON.toJSONString(obj);
-            }
-            result = JSON.parseObject(String.valueOf(result));
+            logSink.endOfBatch();
         } catch (Exception e) {
-            if (appointLog.isTraceEnabled()) {
-                appointLog.trace("参数转换异常:{}", String.valueOf(obj), e);
+            if (defLog.isTraceEnabled()) {
+                defLog.trace("提交日志批次出错", e);
             }
         }
-        return result;
-
-    }
-
-    /**
-     * 获取注解中对方法的描述信息
-     *
-     * @param aopLogger {@link AopLogger}
-     * @return describe
-     */
-    private String getAopLogDescribe(AopLogger aopLogger) {
-        if (aopLogger == null) {
-            return "";
-        }
-        return aopLogger.describe();
-    }
-
-    /**
-     * 获取注解中对方法的描述信息
-     *
-     * @param aopLogger {@link AopLogger}
-     * @return describe
-     */
-    private String appointLogName(AopLogger aopLogger) {
-        if (aopLogger == null) {
-            return "";
-        }
-        return aopLogger.appointLog();
-    }
-
-    private Boolean ignoreLongText(AopLogger aopLogger) {
-        if (aopLogger == null) {
-            return false;
-        }
-        return aopLogger.ignoreLongText();
     }
 
-    private Boolean isFormat(AopLogger aopLogger) {
-        if (aopLogger == null) {
-            return false;
-        }
-        return aopLogger.isFormat();
-    }
-
-    /**
-     * 获取注解中对方法的描述信息
-     *
-     * @param aopLogger {@link AopLogger}
-     * @return describe
-     */
-    private LevelEnum aopLoggerLevel(AopLogger aopLogger) {
-        if (aopLogger == null) {
-            return LevelEnum.DEBUG;
+    private Boolean checkPrintLog(LevelEnum aopLogLevel, Logger log) {
+        if (log.isDebugEnabled() && (LevelEnum.DEBUG.equals(aopLogLevel) || LevelEnum.INFO.equals(aopLogLevel))) {
+            return true;
         }
-        return aopLogger.level();
-    }
-
-    /**
-     * 获取方法上aop注解
-     *
-     * @param joinPoint 切点
-     * @return {@link AopLogger}
-     */
-    private AopLogger getAopLogger(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        return method.getAnnotation(AopLogger.class);
-    }
-
-
-    private void printLog(LogInfo logInfo, LevelEnum level, Logger log, Boolean isFormat) {
-        JSON.DEFAULT_GENERATE_FEATURE &= ~SerializerFeature.SortField.getMask();
-        SerializeConfig serializeConfig = new SerializeConfig(true);
-        switch (level) {
-            case INFO:
-                if (log.isInfoEnabled()) {
-                    if (isFormat) {
-                        log.info("\r\n{}", JSON.toJSONString(logInfo,
-                                SerializerFeature.PrettyFormat,
-                                SerializerFeature.WriteDateUseDateFormat,
-                                SerializerFeature.WriteMapNullValue,
-                                SerializerFeature.WriteNullListAsEmpty));
-                    } else {
-                        log.info("{}", JSON.toJSONString(logInfo, serializeConfig));
-                    }
-                }
-                break;
-            case DEBUG:
-            default:
-                if (log.isDebugEnabled()) {
-                    if (isFormat) {
-                        log.debug("\r\n{}", JSON.toJSONString(logInfo,
-                                SerializerFeature.PrettyFormat,
-                                SerializerFeature.WriteDateUseDateFormat,
-                                SerializerFeature.WriteMapNullValue,
-                                SerializerFeature.WriteNullListAsEmpty));
-                    } else {
-                        log.debug("{}", JSON.toJSONString(logInfo, serializeConfig));
-                    }
-                }
+        if (log.isInfoEnabled() && LevelEnum.INFO.equals(aopLogLevel)) {
+            return true;
         }
+        return false;
     }
 
-
 }
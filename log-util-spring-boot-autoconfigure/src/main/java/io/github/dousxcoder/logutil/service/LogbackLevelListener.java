@@ -0,0 +1,73 @@
+package io.github.dousxcoder.logutil.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 监听logback的Logger级别变化,刷新{@link MethodLogMetaCache}中缓存的开关
+ * <br/>
+ * actuator/loggers修改级别、logback重新加载配置都会触发;重置时不移除监听
+ *
+ * @author dousx
+ * @date 2026-10-18 16:05
+ */
+public class LogbackLevelListener implements LoggerContextListener, InitializingBean, DisposableBean {
+    public static final String NAME = "cruder_logbackLevelListener";
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(LogbackLevelListener.class);
+
+    private final MethodLogMetaCache methodLogMetaCache;
+    private LoggerContext loggerContext;
+
+    public LogbackLevelListener(MethodLogMetaCache methodLogMetaCache) {
+        this.methodLogMetaCache = methodLogMetaCache;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext)) {
+            log.debug("slf4j未绑定logback:{},每次记录日志时检查级别", loggerFactory.getClass().getName());
+            return;
+        }
+        loggerContext = (LoggerContext) loggerFactory;
+        loggerContext.addListener(this);
+        methodLogMetaCache.setLevelTracked(true);
+    }
+
+    @Override
+    public void destroy() {
+        if (loggerContext != null) {
+            methodLogMetaCache.setLevelTracked(false);
+            loggerContext.removeListener(this);
+        }
+    }
+
+    @Override
+    public boolean isResetResistant() {
+        return true;
+    }
+
+    @Override
+    public void onStart(LoggerContext context) {
+        methodLogMetaCache.refreshEnabled();
+    }
+
+    @Override
+    public void onReset(LoggerContext context) {
+        methodLogMetaCache.refreshEnabled();
+    }
+
+    @Override
+    public void onStop(LoggerContext context) {
+    }
+
+    @Override
+    public void onLevelChange(ch.qos.logback.classic.Logger logger, Level level) {
+        methodLogMetaCache.refreshEnabled();
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.dousxcoder.logutil.service;
+
+import io.github.dousxcoder.logutil.annotation.AopLogger;
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.metrics.MethodStats;
+import io.github.dousxcoder.logutil.pojo.LogLimits;
+import io.github.dousxcoder.logutil.pojo.LogSampling;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.summary.ArgSummarizer;
+import io.github.dousxcoder.logutil.summary.ArgSummarizers;
+import io.github.dousxcoder.logutil.utils.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link MethodLogMeta}缓存
+ * <br/>
+ * 注解、Logger、参数名在方法的生命周期内不会变化,按{@link Method}解析一次
+ *
+ * @author dousx
+ * @date 2026-10-18 10:10
+ */
+public class MethodLogMetaCache {
+    public static final String NAME = "cruder_methodLogMetaCache";
+    private static final Logger defLog = LoggerFactory.getLogger(LogService.class);
+
+    private final ConcurrentHashMap<Method, MethodLogMeta> cache = new ConcurrentHashMap<>(256);
+    private final ConcurrentHashMap<String, MethodLogMeta> byKey = new ConcurrentHashMap<>(256);
+    private final AtomicInteger nextId = new AtomicInteger(0);
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final LogProperties.Limits limits;
+    private final LogProperties.Sampling sampling;
+    private final LogProperties.Stats stats;
+    private final ArgSummarizers argSummarizers;
+    private volatile boolean levelTracked;
+
+    public MethodLogMetaCache(LogProperties.Limits limits, LogProperties.Sampling sampling, LogProperties.Stats stats,
+                              ArgSummarizers argSummarizers) {
+        this.limits = limits;
+        this.sampling = sampling;
+        this.stats = stats;
+        this.argSummarizers = argSummarizers;
+    }
+
+    /**
+     * 获取方法日志元数据
+     *
+     * @param method 被切方法
+     * @return {@link MethodLogMeta}
+     */
+    public MethodLogMeta get(Method method) {
+        // 先get,命中时不进入computeIfAbsent的锁(jdk8)
+        MethodLogMeta meta = cache.get(method);
+        if (meta == null) {
+            meta = cache.computeIfAbsent(method, this::resolve);
+            byKey.putIfAbsent(meta.getMethodKey(), meta);
+            // 解析期间级别可能已变化,而refreshEnabled遍历时还看不到这个方法
+            meta.refreshEnabled();
+        }
+        return meta;
+    }
+
+    /**
+     * 按{@link MethodLogMeta#getMethodKey()}获取方法日志元数据,用于恢复重启前记录的事件
+     *
+     * @param methodKey declaringTypeName#methodName(parameterTypes)
+     * @return {@link MethodLogMeta},方法已不存在时返回null
+     */
+    public MethodLogMeta get(String methodKey) {
+        MethodLogMeta meta = byKey.get(methodKey);
+        if (meta != null) {
+            return meta;
+        }
+        try {
+            int hash = methodKey.indexOf('#');
+            int open = methodKey.indexOf('(', hash);
+            ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+            Class<?> type = ClassUtils.forName(methodKey.substring(0, hash), classLoader);
+            String types = methodKey.substring(open + 1, methodKey.length() - 1);
+            String[] typeNames = types.isEmpty() ? new String[0] : types.split(",");
+            Class<?>[] parameterTypes = new Class<?>[typeNames.length];
+            for (int i = 0; i < typeNames.length; i++) {
+                parameterTypes[i] = ClassUtils.forName(typeNames[i], classLoader);
+            }
+            return get(type.getDeclaredMethod(methodKey.substring(hash + 1, open), parameterTypes));
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError | RuntimeException e) {
+            defLog.debug("方法已不存在:{}", methodKey);
+            return null;
+        }
+    }
+
+    /**
+     * 登记不对应Java方法的日志元数据,如按路径记录的请求;使用全局的序列化限制和采样配置
+     *
+     * @param methodKey      唯一key,与方法的key区分,按它从溢出文件中恢复
+     * @param describe       描述
+     * @param level          日志级别
+     * @param loggerName     Logger名称
+     * @param parameterNames 参数名
+     * @return {@link MethodLogMeta},key已登记时返回已有的
+     */
+    public MethodLogMeta register(String methodKey, String describe, LevelEnum level, String loggerName,
+                                  String[] parameterNames) {
+        MethodLogMeta meta = byKey.computeIfAbsent(methodKey, key -> {
+            LogSampling logSampling = sampling(null);
+            return MethodLogMeta.builder()
+                    .id(nextId.getAndIncrement())
+                    .methodKey(key)
+                    .classMethod(key)
+                    .describe(describe)
+                    .level(level)
+                    .logger(appointLog(loggerName))
+                    .parameterNames(parameterNames)
+                    .argSummarizers(new ArgSummarizer[parameterNames.length])
+                    .limits(limits(null, false))
+                    .sampling(logSampling)
+                    .rateLimiter(logSampling.getRatePerSecond() > 0 ? new RateLimiter(logSampling.getRatePerSecond()) : null)
+                    .build();
+        });
+        meta.refreshEnabled();
+        return meta;
+    }
+
+    /**
+     * @return 已解析、登记的所有{@link MethodLogMeta}
+     */
+    public Collection<MethodLogMeta> metas() {
+        return Collections.unmodifiableCollection(byKey.values());
+    }
+
+    /**
+     * 是否需要记录日志
+     * <br/>
+     * 能感知Logger级别变化时只读取缓存的结果,否则每次询问Logger
+     *
+     * @param meta {@link MethodLogMeta}
+     * @return 是否需要记录
+     */
+    public boolean isEnabled(MethodLogMeta meta) {
+        return levelTracked ? meta.isEnabled() : meta.refreshEnabled();
+    }
+
+    /**
+     * Logger级别变化后刷新所有方法的{@link MethodLogMeta#isEnabled()}
+     */
+    public void refreshEnabled() {
+        for (MethodLogMeta meta : byKey.values()) {
+            meta.refreshEnabled();
+        }
+    }
+
+    /**
+     * @param levelTracked 是否已注册Logger级别变化监听
+     */
+    public void setLevelTracked(boolean levelTracked) {
+        if (levelTracked) {
+            refreshEnabled();
+        }
+        this.levelTracked = levelTracked;
+    }
+
+    private MethodLogMeta resolve(Method method) {
+        AopLogger aopLogger = method.getAnnotation(AopLogger.class);
+        String[] parameterNames = parameterNames(method);
+        boolean ignoreLongText = aopLogger != null && aopLogger.ignoreLongText();
+        LogSampling logSampling = sampling(aopLogger);
+        String classMethod = method.getDeclaringClass().getName() + "." + method.getName();
+        String describe = aopLogger == null ? "" : aopLogger.describe();
+        MethodLogMeta meta = MethodLogMeta.builder()
+                .method(method)
+                .id(nextId.getAndIncrement())
+                .methodKey(methodKey(method))
+                .classMethod(classMethod)
+                .describe(describe)
+                .level(aopLogger == null ? LevelEnum.DEBUG : aopLogger.level())
+                .logger(appointLog(aopLogger == null ? "" : aopLogger.appointLog()))
+                .ignoreLongText(ignoreLongText)
+                .format(aopLogger != null && aopLogger.isFormat())
+                .parameterNames(parameterNames)
+                .argSummarizers(argSummarizers.plan(method))
+                .limits(limits(aopLogger, ignoreLongText))
+                .sampling(logSampling)
+                .rateLimiter(logSampling.getRatePerSecond() > 0 ? new RateLimiter(logSampling.getRatePerSecond()) : null)
+                .stats(stats(classMethod, describe))
+                .build();
+        meta.refreshEnabled();
+        return meta;
+    }
+
+    private MethodStats stats(String name, String describe) {
+        return stats.isEnabled() ? new MethodStats(name, describe, stats.getStripes()) : null;
+    }
+
+    /**
+     * 注解中指定的值优先,其次是全局配置
+     */
+    private LogLimits limits(AopLogger aopLogger, boolean ignoreLongText) {
+        int maxStringLength = limits.getMaxStringLength();
+        if (ignoreLongText && maxStringLength == LogLimits.UNLIMITED) {
+            maxStringLength = LogLimits.LONG_TEXT_LENGTH;
+        }
+        if (aopLogger == null) {
+            return LogLimits.builder()
+                    .maxStringLength(maxStringLength)
+                    .maxCollectionElements(limits.getMaxCollectionElements())
+                    .maxDepth(limits.getMaxDepth())
+                    .maxBytes(limits.getMaxBytes())
+                    .build();
+        }
+        return LogLimits.builder()
+                .maxStringLength(orGlobal(aopLogger.maxStringLength(), maxStringLength))
+                .maxCollectionElements(orGlobal(aopLogger.maxCollectionElements(), limits.getMaxCollectionElements()))
+                .maxDepth(orGlobal(aopLogger.maxDepth(), limits.getMaxDepth()))
+                .maxBytes(orGlobal(aopLogger.maxBytes(), limits.getMaxBytes()))
+                .build();
+    }
+
+    private LogSampling sampling(AopLogger aopLogger) {
+        double ratio = sampling.getRatio();
+        int ratePerSecond = sampling.getRatePerSecond();
+        long slowThresholdMillis = sampling.getSlowThresholdMillis();
+        boolean keepErrors = sampling.isKeepErrors();
+        if (aopLogger != null) {
+            ratio = aopLogger.sampleRatio() == LogSampling.GLOBAL ? ratio : aopLogger.sampleRatio();
+            ratePerSecond = orGlobal(aopLogger.sampleRatePerSecond(), ratePerSecond);
+            slowThresholdMillis = aopLogger.slowThresholdMillis() == LogSampling.GLOBAL ? slowThresholdMillis : aopLogger.slowThresholdMillis();
+            keepErrors = aopLogger.keepErrors().isEnabled(keepErrors);
+        }
+        return LogSampling.builder()
+                .ratio(Math.max(0D, Math.min(1D, ratio)))
+                .ratePerSecond(ratePerSecond)
+                .slowThresholdMillis(slowThresholdMillis)
+                .keepErrors(keepErrors)
+                .build();
+    }
+
+    private static int orGlobal(int value, int global) {
+        return value == LogLimits.GLOBAL ? global : value;
+    }
+
+    private static String methodKey(Method method) {
+        StringBuilder sb = new StringBuilder(method.getDeclaringClass().getName())
+                .append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    private String[] parameterNames(Method method) {
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        if (parameterNames == null || parameterNames.length != method.getParameterCount()) {
+            parameterNames = new String[method.getParameterCount()];
+            for (int i = 0; i < parameterNames.length; i++) {
+                parameterNames[i] = "arg" + i;
+            }
+        }
+        return parameterNames;
+    }
+
+    private Logger appointLog(String appointLogName) {
+        Logger appointLog = defLog;
+        if (!ObjectUtils.isEmpty(appointLogName)) {
+            try {
+                Logger logger = LoggerFactory.getLogger(appointLogName);
+                if (logger != null) {
+                    appointLog = logger;
+                }
+            } catch (Throwable e) {
+                defLog.warn("获取指定Logger失败:{},采用默认Logger:{}", appointLogName, defLog);
+            }
+        }
+        return appointLog;
+    }
+}
@@ -0,0 +1,384 @@
+package io.github.dousxcoder.logutil.sink;
+
+import io.github.dousxcoder.logutil.enums.Compression;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 直接写文件,不经过日志框架的pattern和appender
+ * <br/>
+ * 记录在锁外编码,锁内写入直接缓冲区,分发器处理完一批(或超过flushIntervalMillis)才写入FileChannel;
+ * 按大小、时间滚动,滚动后的文件在后台线程压缩;未配置的Logger仍交给{@link Slf4jLogSink}
+ *
+ * @param <T> 锁外编码的结果
+ * @author dousx
+ * @date 2026-10-18 19:30
+ */
+public abstract class AbstractFileLogSink<T> implements LogSink, DisposableBean {
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(AbstractFileLogSink.class);
+    private static final String ZSTD_CLASS = "com.github.luben.zstd.ZstdOutputStream";
+    private static final long ERROR_LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    protected final LogMetrics logMetrics;
+    private final LogSink fallback;
+    private final Set<String> loggers;
+
+    private final Path directory;
+    private final String name;
+    private final String suffix;
+    private final Path activeFile;
+    private final long maxFileSize;
+    private final long rollIntervalMillis;
+    private final long flushIntervalNanos;
+    private final Compression compression;
+    private final ExecutorService compressor;
+
+    protected final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private long fileSize;
+    private long segmentStart;
+    private long nextRollMillis;
+    private long lastFlushNanos = System.nanoTime();
+    /**
+     * 缓冲区中尚未写入文件的记录数
+     */
+    private int pending;
+    /**
+     * 正在追加的记录在文件中的起始位置,不在追加时为-1;记录超过缓冲区时可能已有一部分写入文件
+     */
+    private long recordStart = -1;
+    /**
+     * 正在追加的记录写入失败,丢弃剩余部分
+     */
+    private boolean discarding;
+    /**
+     * 写入失败后重新打开文件时截断到的大小,-1不截断
+     */
+    private long truncateTo = -1;
+    private long lastErrorMillis;
+
+    protected AbstractFileLogSink(LogMetrics logMetrics, LogSink fallback, LogProperties.Sink properties,
+                                  String suffix) throws IOException {
+        LogProperties.SinkFile file = properties.getFile();
+        this.logMetrics = logMetrics;
+        this.fallback = fallback;
+        this.loggers = new HashSet<>(properties.getLoggers());
+        this.directory = Paths.get(file.getDirectory());
+        this.name = file.getName();
+        this.suffix = suffix;
+        this.activeFile = directory.resolve(name + suffix);
+        this.maxFileSize = file.getMaxFileSize() > 0 ? file.getMaxFileSize() : Long.MAX_VALUE;
+        this.rollIntervalMillis = file.getRollIntervalMinutes() > 0
+                ? TimeUnit.MINUTES.toMillis(file.getRollIntervalMinutes()) : Long.MAX_VALUE;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, file.getFlushIntervalMillis()));
+        this.compression = checkCompression(file.getCompression());
+        this.buffer = ByteBuffer.allocateDirect(Math.max(4096, file.getBufferSize()));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "log-" + suffix.substring(1) + "-compress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compressor = executor;
+        Files.createDirectories(directory);
+        // 上次未滚动的文件先归档,避免与本次的时间段混在一起
+        if (Files.exists(activeFile) && Files.size(activeFile) > 0) {
+            archive(Files.getLastModifiedTime(activeFile).toMillis());
+        }
+        open();
+    }
+
+    @Override
+    public void write(LogEvent event) {
+        if (!loggers.isEmpty() && !loggers.contains(event.getMeta().getLogger().getName())) {
+            fallback.write(event);
+            return;
+        }
+        long begin = System.nanoTime();
+        T record;
+        try {
+            record = encode(event);
+        } catch (IOException e) {
+            logMetrics.dropped();
+            return;
+        }
+        long serialized = System.nanoTime();
+        logMetrics.getSerializeLatency().record(serialized - begin);
+        synchronized (this) {
+            recordStart = fileSize + buffer.position();
+            append(event, record);
+            recordStart = -1;
+            if (discarding) {
+                // 剩余部分留在缓冲区,不能写入文件
+                ((Buffer) buffer).clear();
+                discarding = false;
+                logMetrics.dropped();
+                return;
+            }
+            pending++;
+            if (serialized - lastFlushNanos >= flushIntervalNanos) {
+                flush();
+            }
+        }
+        logMetrics.getPrintLatency().record(System.nanoTime() - serialized);
+    }
+
+    @Override
+    public synchronized void endOfBatch() {
+        flush();
+    }
+
+    /**
+     * 在日志线程上编码,不持有锁
+     *
+     * @param event {@link LogEvent}
+     * @return 编码结果
+     */
+    protected abstract T encode(LogEvent event) throws IOException;
+
+    /**
+     * 持有锁,把编码结果写入{@link #buffer},空间不足时调用{@link #flushBuffer()}
+     *
+     * @param event  {@link LogEvent}
+     * @param record {@link #encode}的结果
+     */
+    protected abstract void append(LogEvent event, T record);
+
+    /**
+     * 新文件的文件头,没有时返回null
+     */
+    protected byte[] fileHeader() {
+        return null;
+    }
+
+    /**
+     * 当前文件已关闭(滚动或写入失败),持有锁
+     */
+    protected void fileClosed() {
+    }
+
+    /**
+     * 写入字节,单条记录超过缓冲区时分段写入
+     */
+    protected void put(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * 写入缓冲区并按需滚动
+     */
+    private void flush() {
+        lastFlushNanos = System.nanoTime();
+        if (buffer.position() == 0) {
+            return;
+        }
+        flushBuffer();
+        pending = 0;
+        long now = System.currentTimeMillis();
+        if (channel != null && (fileSize >= maxFileSize || now >= nextRollMillis)) {
+            try {
+                channel.close();
+                channel = null;
+                fileClosed();
+                archive(segmentStart);
+                open();
+            } catch (IOException e) {
+                error("滚动日志文件失败", e);
+            }
+        }
+    }
+
+    protected void flushBuffer() {
+        if (discarding) {
+            ((Buffer) buffer).clear();
+            return;
+        }
+        // 转成Buffer调用,避免链接到JDK 9+返回ByteBuffer的重载,在Java 8上NoSuchMethodError
+        ((Buffer) buffer).flip();
+        long committed = fileSize;
+        try {
+            if (channel == null) {
+                open();
+                committed = fileSize;
+            }
+            while (buffer.hasRemaining()) {
+                fileSize += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            for (int i = 0; i < pending; i++) {
+                logMetrics.dropped();
+            }
+            pending = 0;
+            if (recordStart >= 0) {
+                // 跨缓冲区的记录已写入的部分一起截掉
+                committed = Math.min(committed, recordStart);
+                discarding = true;
+            }
+            // 已写入一部分的内容在重新打开时截掉,之后从完整的记录末尾追加
+            truncateTo = committed;
+            fileSize = committed;
+            closeQuietly();
+            error("写入日志文件失败", e);
+        } finally {
+            ((Buffer) buffer).clear();
+        }
+    }
+
+    private void open() throws IOException {
+        FileChannel opened = FileChannel.open(activeFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        try {
+            if (truncateTo >= 0 && opened.size() > truncateTo) {
+                opened.truncate(truncateTo);
+            }
+        } catch (IOException e) {
+            opened.close();
+            throw e;
+        }
+        truncateTo = -1;
+        channel = opened;
+        fileSize = channel.size();
+        byte[] header = fileHeader();
+        if (fileSize == 0 && header != null) {
+            ByteBuffer bytes = ByteBuffer.wrap(header);
+            while (bytes.hasRemaining()) {
+                fileSize += channel.write(bytes);
+            }
+        }
+        segmentStart = System.currentTimeMillis();
+        nextRollMillis = nextRoll(segmentStart);
+    }
+
+    private void closeQuietly() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 已经在处理写入失败
+            }
+            channel = null;
+            fileClosed();
+        }
+    }
+
+    /**
+     * 按本地时区对齐滚动时间,例如60分钟在整点滚动
+     */
+    private long nextRoll(long now) {
+        if (rollIntervalMillis == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        long offset = TimeZone.getDefault().getOffset(now);
+        return ((now + offset) / rollIntervalMillis + 1) * rollIntervalMillis - offset;
+    }
+
+    /**
+     * 重命名当前文件并提交压缩
+     */
+    private void archive(long start) throws IOException {
+        String prefix = name + "-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(start));
+        Path target;
+        int index = 0;
+        do {
+            target = directory.resolve(prefix + "." + index++ + suffix);
+        } while (Files.exists(target) || Files.exists(target.resolveSibling(target.getFileName() + compression.suffix())));
+        Files.move(activeFile, target);
+        if (!Compression.NONE.equals(compression)) {
+            Path source = target;
+            compressor.execute(() -> compress(source));
+        }
+    }
+
+    private void compress(Path source) {
+        Path target = source.resolveSibling(source.getFileName() + compression.suffix());
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = compressStream(Files.newOutputStream(target))) {
+            byte[] bytes = new byte[8192];
+            int n;
+            while ((n = in.read(bytes)) != -1) {
+                out.write(bytes, 0, n);
+            }
+        } catch (IOException e) {
+            log.warn("压缩日志文件失败:{}", source, e);
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException ignored) {
+                // 保留未压缩的文件
+            }
+            return;
+        }
+        try {
+            Files.delete(source);
+        } catch (IOException e) {
+            log.warn("删除已压缩的日志文件失败:{}", source, e);
+        }
+    }
+
+    private OutputStream compressStream(OutputStream out) throws IOException {
+        if (Compression.ZSTD.equals(compression)) {
+            return ZstdStreams.compress(out);
+        }
+        return new GZIPOutputStream(out, 8192);
+    }
+
+    private static Compression checkCompression(Compression compression) {
+        if (Compression.ZSTD.equals(compression)
+                && !ClassUtils.isPresent(ZSTD_CLASS, AbstractFileLogSink.class.getClassLoader())) {
+            log.warn("未找到zstd-jni,滚动后的日志文件改用gzip压缩");
+            return Compression.GZIP;
+        }
+        return compression == null ? Compression.NONE : compression;
+    }
+
+    private void error(String message, IOException e) {
+        long now = System.currentTimeMillis();
+        if (now - lastErrorMillis >= ERROR_LOG_INTERVAL_MILLIS) {
+            lastErrorMillis = now;
+            log.warn("{}:{}", message, activeFile, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        synchronized (this) {
+            flush();
+            closeQuietly();
+        }
+        compressor.shutdown();
+        compressor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.dousxcoder.logutil.sink;
+
+import io.github.dousxcoder.logutil.codec.BinaryLogCodec;
+import io.github.dousxcoder.logutil.codec.LogDecoder;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * 直接写{@link BinaryLogCodec}格式的文件
+ * <br/>
+ * 时间保留为long,方法信息每个文件只写一次,之后用方法id引用;只有参数和结果在日志线程上转成JSON,
+ * 外层日志行由{@link LogDecoder}离线输出
+ *
+ * @author dousx
+ * @date 2026-10-18 19:40
+ */
+public class BinaryFileLogSink extends AbstractFileLogSink<byte[]> {
+    private static final String SUFFIX = ".bin";
+
+    private final LogJsonWriter logJsonWriter;
+    /**
+     * 当前文件已写入的方法id
+     */
+    private final BitSet written = new BitSet();
+
+    public BinaryFileLogSink(LogJsonWriter logJsonWriter, LogMetrics logMetrics, LogSink fallback,
+                             LogProperties.Sink properties) throws IOException {
+        super(logMetrics, fallback, properties, SUFFIX);
+        this.logJsonWriter = logJsonWriter;
+    }
+
+    @Override
+    protected byte[] encode(LogEvent event) throws IOException {
+        return BinaryLogCodec.eventRecord(event, logJsonWriter);
+    }
+
+    @Override
+    protected void append(LogEvent event, byte[] record) {
+        MethodLogMeta meta = event.getMeta();
+        if (!written.get(meta.getId())) {
+            try {
+                byte[] methodRecord = BinaryLogCodec.methodRecord(meta);
+                // 先标记,写入失败关闭文件时由fileClosed清除,新文件中重新写入
+                written.set(meta.getId());
+                put(methodRecord);
+            } catch (IOException e) {
+                // 内存中编码,不会发生
+                throw new IllegalStateException(e);
+            }
+        }
+        put(record);
+    }
+
+    @Override
+    protected byte[] fileHeader() {
+        return BinaryLogCodec.fileHeader();
+    }
+
+    @Override
+    protected void fileClosed() {
+        written.clear();
+    }
+}
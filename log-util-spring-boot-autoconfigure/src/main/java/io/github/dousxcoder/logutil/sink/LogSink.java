@@ -0,0 +1,28 @@
+package io.github.dousxcoder.logutil.sink;
+
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+
+/**
+ * 日志输出
+ * <br/>
+ * 由{@code LogService}在日志线程上调用,可能被多个日志线程同时调用
+ *
+ * @author dousx
+ * @date 2026-10-18 17:20
+ */
+public interface LogSink {
+    String NAME = "cruder_logSink";
+
+    /**
+     * 输出一条日志,级别已检查
+     *
+     * @param event {@link LogEvent}
+     */
+    void write(LogEvent event);
+
+    /**
+     * 分发器处理完一批事件,需要批量落盘的实现在这里提交
+     */
+    default void endOfBatch() {
+    }
+}
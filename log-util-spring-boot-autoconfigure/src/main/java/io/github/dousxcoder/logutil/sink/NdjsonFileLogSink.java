@@ -0,0 +1,55 @@
+package io.github.dousxcoder.logutil.sink;
+
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 直接写NDJSON文件,每行一条{@link LogJsonWriter#writeRecord}输出的记录
+ *
+ * @author dousx
+ * @date 2026-10-18 17:30
+ */
+public class NdjsonFileLogSink extends AbstractFileLogSink<String> {
+    private static final String SUFFIX = ".ndjson";
+
+    private final LogJsonWriter logJsonWriter;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    public NdjsonFileLogSink(LogJsonWriter logJsonWriter, LogMetrics logMetrics, LogSink fallback,
+                             LogProperties.Sink properties) throws IOException {
+        super(logMetrics, fallback, properties, SUFFIX);
+        this.logJsonWriter = logJsonWriter;
+    }
+
+    @Override
+    protected String encode(LogEvent event) {
+        return logJsonWriter.writeRecord(event);
+    }
+
+    @Override
+    protected void append(LogEvent event, String line) {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        // 单条记录超过缓冲区时分段写入
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            flushBuffer();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            flushBuffer();
+        }
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) '\n');
+    }
+}
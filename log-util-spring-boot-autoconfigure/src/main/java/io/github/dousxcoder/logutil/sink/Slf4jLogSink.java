@@ -0,0 +1,55 @@
+package io.github.dousxcoder.logutil.sink;
+
+import io.github.dousxcoder.logutil.enums.LevelEnum;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+
+/**
+ * 通过{@code @AopLogger}指定的SLF4J Logger输出
+ *
+ * @author dousx
+ * @date 2026-10-18 17:22
+ */
+@AllArgsConstructor
+public class Slf4jLogSink implements LogSink {
+    private final LogJsonWriter logJsonWriter;
+    private final LogMetrics logMetrics;
+
+    @Override
+    public void write(LogEvent event) {
+        long begin = System.nanoTime();
+        MethodLogMeta meta = event.getMeta();
+        String line = logJsonWriter.write(event);
+        long serialized = System.nanoTime();
+        logMetrics.getSerializeLatency().record(serialized - begin);
+        printLog(line, meta.getLevel(), meta.getLogger(), meta.isFormat());
+        logMetrics.getPrintLatency().record(System.nanoTime() - serialized);
+    }
+
+    private void printLog(String line, LevelEnum level, Logger log, boolean isFormat) {
+        switch (level) {
+            case INFO:
+                if (log.isInfoEnabled()) {
+                    if (isFormat) {
+                        log.info("\r\n{}", line);
+                    } else {
+                        log.info("{}", line);
+                    }
+                }
+                break;
+            case DEBUG:
+            default:
+                if (log.isDebugEnabled()) {
+                    if (isFormat) {
+                        log.debug("\r\n{}", line);
+                    } else {
+                        log.debug("{}", line);
+                    }
+                }
+        }
+    }
+}
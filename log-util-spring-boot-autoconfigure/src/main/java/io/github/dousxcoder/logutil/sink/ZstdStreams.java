@@ -0,0 +1,27 @@
+package io.github.dousxcoder.logutil.sink;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 单独引用zstd-jni,只有配置了zstd或读取.zst文件且classpath中存在时才会加载
+ *
+ * @author dousx
+ * @date 2026-10-18 17:35
+ */
+public final class ZstdStreams {
+    private ZstdStreams() {
+    }
+
+    static OutputStream compress(OutputStream out) throws IOException {
+        return new ZstdOutputStream(out);
+    }
+
+    public static InputStream decompress(InputStream in) throws IOException {
+        return new ZstdInputStream(in);
+    }
+}
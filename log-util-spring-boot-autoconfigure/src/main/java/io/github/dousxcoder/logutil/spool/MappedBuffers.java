@@ -0,0 +1,76 @@
+package io.github.dousxcoder.logutil.spool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * 释放内存映射
+ * <br/>
+ * 映射区默认要等到GC回收MappedByteBuffer才释放,关闭段时通过反射立即释放:
+ * JDK 9+ 使用 sun.misc.Unsafe#invokeCleaner,JDK 8 使用 ((DirectBuffer) buffer).cleaner().clean();
+ * 都不可用时交给GC。释放后不能再访问该buffer及其duplicate/slice
+ *
+ * @author dousx
+ * @date 2026-10-19 03:40
+ */
+final class MappedBuffers {
+    private static final Logger log = LoggerFactory.getLogger(MappedBuffers.class);
+    private static final Unmapper UNMAPPER = unmapper();
+
+    private MappedBuffers() {
+    }
+
+    /**
+     * @return false 不支持立即释放
+     */
+    static boolean unmap(MappedByteBuffer buffer) {
+        if (UNMAPPER == null) {
+            return false;
+        }
+        try {
+            UNMAPPER.unmap(buffer);
+            return true;
+        } catch (Throwable e) {
+            if (log.isTraceEnabled()) {
+                log.trace("释放内存映射出错", e);
+            }
+            return false;
+        }
+    }
+
+    private static Unmapper unmapper() {
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeType.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeType.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // JDK 8没有invokeCleaner
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object target = cleaner.invoke(buffer);
+                if (target != null) {
+                    clean.invoke(target);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            log.debug("不支持立即释放内存映射,关闭溢出文件后由GC释放");
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Unmapper {
+        void unmap(MappedByteBuffer buffer) throws Exception;
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.dousxcoder.logutil.spool;
+
+import io.github.dousxcoder.logutil.dispatcher.AbstractLogDispatcher;
+import io.github.dousxcoder.logutil.metrics.LogMetrics;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 溢出文件
+ * <br/>
+ * 分发器写满时事件编码后追加到内存映射的段文件,后台线程在分发器有空位时回放;
+ * 启动时恢复上次崩溃遗留的段,关闭时把分发器中未处理的事件写入溢出文件而不是等待处理完
+ *
+ * @author dousx
+ * @date 2026-10-18 18:40
+ */
+public class OverflowSpool implements InitializingBean, DisposableBean {
+    public static final String NAME = "cruder_overflowSpool";
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(OverflowSpool.class);
+    private static final String PREFIX = "spool-";
+    private static final String THREAD_NAME = "log-spool-drain";
+
+    private final AbstractLogDispatcher logDispatcher;
+    private final MethodLogMetaCache methodLogMetaCache;
+    private final LogJsonWriter logJsonWriter;
+    private final LogMetrics logMetrics;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long drainIntervalNanos;
+
+    /**
+     * 按顺序回放,最后一个是正在写入的段
+     */
+    private final ConcurrentLinkedDeque<SpoolSegment> segments = new ConcurrentLinkedDeque<>();
+    private final Object writeLock = new Object();
+    private SpoolSegment active;
+    private long nextSequence;
+    private volatile boolean closed;
+    private volatile boolean draining = true;
+    private Thread drainer;
+
+    public OverflowSpool(AbstractLogDispatcher logDispatcher, MethodLogMetaCache methodLogMetaCache,
+                         LogJsonWriter logJsonWriter, LogMetrics logMetrics, LogProperties.Spool properties) {
+        this.logDispatcher = logDispatcher;
+        this.methodLogMetaCache = methodLogMetaCache;
+        this.logJsonWriter = logJsonWriter;
+        this.logMetrics = logMetrics;
+        this.directory = Paths.get(properties.getDirectory());
+        this.segmentSize = Math.max(64 * 1024, properties.getSegmentSize());
+        this.maxSegments = Math.max(1, properties.getMaxSegments());
+        this.drainIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getDrainIntervalMillis()));
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Files.createDirectories(directory);
+        recover();
+        logDispatcher.setOverflowSpool(this);
+        drainer = new Thread(this::drain, THREAD_NAME);
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * 写入溢出文件,在请求线程上调用
+     *
+     * @param event {@link LogEvent}
+     * @return false 溢出文件已满或已关闭
+     */
+    public boolean offer(LogEvent event) {
+        if (closed) {
+            return false;
+        }
+        byte[] payload;
+        try {
+            payload = SpoolCodec.encode(event, logJsonWriter);
+        } catch (Exception e) {
+            if (log.isTraceEnabled()) {
+                log.trace("编码溢出记录出错", e);
+            }
+            return false;
+        }
+        synchronized (writeLock) {
+            if (closed) {
+                return false;
+            }
+            if (active == null || !active.append(payload)) {
+                if (!roll() || !active.append(payload)) {
+                    return false;
+                }
+            }
+        }
+        LockSupport.unpark(drainer);
+        return true;
+    }
+
+    /**
+     * 切换到新段,段数已达上限时返回false
+     */
+    private boolean roll() {
+        if (SpoolSegment.HEADER + SpoolSegment.RECORD_HEADER >= segmentSize || segments.size() >= maxSegments) {
+            return false;
+        }
+        try {
+            SpoolSegment segment = SpoolSegment.create(directory.resolve(segmentName(nextSequence++)), segmentSize);
+            if (active != null) {
+                active.seal();
+            }
+            active = segment;
+            segments.addLast(segment);
+            return true;
+        } catch (IOException e) {
+            log.warn("创建溢出文件失败:{}", directory, e);
+            return false;
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SpoolSegment.SUFFIX)) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        }
+        Collections.sort(paths);
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            try {
+                long sequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - SpoolSegment.SUFFIX.length()));
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                SpoolSegment segment = SpoolSegment.recover(path);
+                if (segment == null) {
+                    log.warn("无法识别的溢出文件:{}", path);
+                    continue;
+                }
+                segments.addLast(segment);
+            } catch (NumberFormatException | IOException e) {
+                log.warn("恢复溢出文件失败:{}", path, e);
+            }
+        }
+        if (!segments.isEmpty()) {
+            log.info("恢复溢出文件{}个,后台回放", segments.size());
+        }
+    }
+
+    private void drain() {
+        while (draining) {
+            SpoolSegment segment = segments.peekFirst();
+            if (segment == null) {
+                LockSupport.parkNanos(this, drainIntervalNanos);
+                continue;
+            }
+            // 先读sealed,保证看到封存前最后一次写入
+            boolean sealed = segment.isSealed();
+            ByteBuffer payload = segment.peek();
+            if (payload != null) {
+                replay(segment, payload);
+            } else if (sealed) {
+                segments.pollFirst();
+                try {
+                    segment.delete();
+                } catch (IOException e) {
+                    log.warn("删除已回放的溢出文件失败:{}", segment.getPath(), e);
+                }
+            } else {
+                LockSupport.parkNanos(this, drainIntervalNanos);
+            }
+        }
+    }
+
+    private void replay(SpoolSegment segment, ByteBuffer payload) {
+        LogEvent event;
+        try {
+            event = SpoolCodec.decode(payload, methodLogMetaCache::get);
+        } catch (RuntimeException e) {
+            event = null;
+        }
+        if (event == null) {
+            // 无法还原的记录不再重试
+            segment.consume();
+            logMetrics.dropped();
+            return;
+        }
+        if (logDispatcher.redispatch(event)) {
+            segment.consume();
+            logMetrics.replayed();
+        } else {
+            LockSupport.parkNanos(this, drainIntervalNanos);
+        }
+    }
+
+    /**
+     * 等待回放线程退出,关闭时会释放段的映射,不能在回放线程仍在读取时进行
+     */
+    private void awaitDrainer() {
+        if (drainer == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            try {
+                drainer.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String segmentName(long sequence) {
+        return PREFIX + String.format("%019d", sequence) + SpoolSegment.SUFFIX;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        draining = false;
+        awaitDrainer();
+        // 分发器中未处理的事件写入溢出文件,下次启动时回放
+        logDispatcher.spill();
+        synchronized (writeLock) {
+            closed = true;
+            for (SpoolSegment segment : segments) {
+                try {
+                    if (segment.peek() == null) {
+                        // 已全部回放
+                        segment.delete();
+                        continue;
+                    }
+                    segment.force();
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("关闭溢出文件失败:{}", segment.getPath(), e);
+                }
+            }
+        }
+    }
+}
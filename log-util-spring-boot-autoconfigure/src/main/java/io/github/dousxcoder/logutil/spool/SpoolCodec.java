@@ -0,0 +1,52 @@
+package io.github.dousxcoder.logutil.spool;
+
+import io.github.dousxcoder.logutil.codec.BinaryLogCodec;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * 溢出记录编码
+ * <br/>
+ * 事件内容与{@link BinaryLogCodec}相同;方法id重启后会变化,这里用methodKey定位方法
+ *
+ * @author dousx
+ * @date 2026-10-18 18:20
+ */
+final class SpoolCodec {
+    private static final byte VERSION = 2;
+
+    private SpoolCodec() {
+    }
+
+    static byte[] encode(LogEvent event, LogJsonWriter logJsonWriter) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(VERSION);
+        BinaryLogCodec.writeString(out, event.getMeta().getMethodKey());
+        BinaryLogCodec.writeEvent(out, event, logJsonWriter);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param payload  记录内容
+     * @param resolver methodKey对应的{@link MethodLogMeta}
+     * @return {@link LogEvent},方法已不存在或版本不支持时返回null
+     */
+    static LogEvent decode(ByteBuffer payload, Function<String, MethodLogMeta> resolver) {
+        if (payload.get() != VERSION) {
+            return null;
+        }
+        MethodLogMeta meta = resolver.apply(BinaryLogCodec.readString(payload));
+        if (meta == null) {
+            return null;
+        }
+        return BinaryLogCodec.readEvent(payload, meta);
+    }
+}
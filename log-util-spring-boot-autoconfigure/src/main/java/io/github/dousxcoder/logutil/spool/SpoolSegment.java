@@ -0,0 +1,201 @@
+package io.github.dousxcoder.logutil.spool;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 溢出文件的一个段,内存映射,只追加
+ * <br/>
+ * 文件头 magic(4) version(4),之后每条记录为 length(4) crc32(4) payload;
+ * 先写crc和内容再写length,length为0表示结尾,已回放的记录把length改成负数。
+ * 进程崩溃时已写入映射区的内容仍由操作系统落盘,重启后按crc校验恢复
+ *
+ * @author dousx
+ * @date 2026-10-18 18:30
+ */
+final class SpoolSegment {
+    static final String SUFFIX = ".seg";
+    private static final int MAGIC = 0x4C555350;
+    private static final int VERSION = 1;
+    static final int HEADER = 8;
+    static final int RECORD_HEADER = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    /**
+     * 写入方使用
+     */
+    private final ByteBuffer writeView;
+    /**
+     * 回放线程使用
+     */
+    private final ByteBuffer readView;
+    private final CRC32 writeCrc = new CRC32();
+
+    /**
+     * 已提交的写入位置,小于它的记录对回放线程可见
+     */
+    private volatile int committed = HEADER;
+    /**
+     * 写满后不再追加
+     */
+    private volatile boolean sealed;
+    private int readPosition = HEADER;
+
+    private SpoolSegment(Path path, FileChannel channel, int size) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.writeView = mapped.duplicate();
+        this.readView = mapped.duplicate();
+    }
+
+    static SpoolSegment create(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        SpoolSegment segment = new SpoolSegment(path, channel, size);
+        segment.writeView.putInt(0, MAGIC);
+        segment.writeView.putInt(4, VERSION);
+        return segment;
+    }
+
+    /**
+     * 打开上次遗留的段,跳过已回放的记录,遇到未写完或校验失败的记录即视为结尾
+     *
+     * @return 无法识别时返回null
+     */
+    static SpoolSegment recover(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < HEADER || size > Integer.MAX_VALUE) {
+            channel.close();
+            return null;
+        }
+        SpoolSegment segment = new SpoolSegment(path, channel, (int) size);
+        ByteBuffer buffer = segment.readView;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            segment.close();
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        int position = HEADER;
+        while (position + RECORD_HEADER <= size) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            int absLength = Math.abs(length);
+            if (position + RECORD_HEADER + absLength > size) {
+                break;
+            }
+            if (length > 0) {
+                ByteBuffer payload = slice(buffer, position + RECORD_HEADER, length);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+            }
+            position += RECORD_HEADER + absLength;
+        }
+        segment.committed = position;
+        segment.sealed = true;
+        return segment;
+    }
+
+    /**
+     * 追加一条记录,由持有写锁的线程调用
+     *
+     * @return false 剩余空间不足
+     */
+    boolean append(byte[] payload) {
+        int position = committed;
+        // 末尾保留4字节的0作为结尾标记
+        if (sealed || position + RECORD_HEADER + payload.length + 4 > writeView.capacity()) {
+            return false;
+        }
+        writeCrc.reset();
+        writeCrc.update(payload, 0, payload.length);
+        writeView.putInt(position + 4, (int) writeCrc.getValue());
+        // 转成Buffer调用,避免按JDK 9+编译后链接到返回ByteBuffer的重载,在Java 8上NoSuchMethodError
+        ((Buffer) writeView).position(position + RECORD_HEADER);
+        writeView.put(payload);
+        writeView.putInt(position, payload.length);
+        committed = position + RECORD_HEADER + payload.length;
+        return true;
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    /**
+     * 下一条未回放的记录,没有时返回null;跳过已回放的记录
+     */
+    ByteBuffer peek() {
+        int limit = committed;
+        while (readPosition < limit) {
+            int length = readView.getInt(readPosition);
+            if (length > 0) {
+                return slice(readView, readPosition + RECORD_HEADER, length);
+            }
+            readPosition += RECORD_HEADER - length;
+        }
+        return null;
+    }
+
+    /**
+     * 标记{@link #peek()}返回的记录已回放
+     */
+    void consume() {
+        int length = readView.getInt(readPosition);
+        readView.putInt(readPosition, -length);
+        readPosition += RECORD_HEADER + length;
+    }
+
+    void force() {
+        mapped.force();
+    }
+
+    /**
+     * 关闭并释放映射,之后不能再访问本段;重复调用无效
+     */
+    void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.close();
+        } finally {
+            MappedBuffers.unmap(mapped);
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int position, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        ((Buffer) duplicate).position(position);
+        ((Buffer) duplicate).limit(position + length);
+        return duplicate.slice();
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.dousxcoder.logutil.summary;
+
+import java.util.function.Function;
+
+/**
+ * 把不适合序列化的参数(请求、流、二进制等)转换成摘要
+ * <br/>
+ * 在请求线程上调用,只能读取廉价的元数据,不能消费流或遍历大对象;
+ * 应用定义了该类型的Bean时优先于内置实现,按{@code @Order}排序
+ *
+ * @author dousx
+ * @date 2026-10-19 02:25
+ */
+public interface ArgSummarizer {
+
+    /**
+     * @return 处理的类型,包括子类型
+     */
+    Class<?> type();
+
+    /**
+     * @param arg 参数值,不为null
+     * @return 摘要,按普通对象序列化
+     */
+    Object summarize(Object arg);
+
+    /**
+     * @param type    处理的类型
+     * @param summary 生成摘要
+     * @return {@link ArgSummarizer}
+     */
+    static <T> ArgSummarizer of(Class<T> type, Function<? super T, ?> summary) {
+        return new ArgSummarizer() {
+            @Override
+            public Class<?> type() {
+                return type;
+            }
+
+            @Override
+            public Object summarize(Object arg) {
+                return summary.apply(type.cast(arg));
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.dousxcoder.logutil.summary;
+
+import org.slf4j.Logger;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link ArgSummarizer}注册表
+ * <br/>
+ * 每个参数位使用哪个摘要器按声明类型确定一次,缓存在{@code MethodLogMeta}中;
+ * 声明类型可能承载需要摘要的值时(如Object)按运行时类型查找,每个类只查找一次
+ *
+ * @author dousx
+ * @date 2026-10-19 02:30
+ */
+public final class ArgSummarizers {
+    public static final String NAME = "cruder_argSummarizers";
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(ArgSummarizers.class);
+    /**
+     * WebFlux应用可能没有Servlet API,不存在时不加载{@link ServletArgSummarizers}
+     */
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent("javax.servlet.ServletRequest",
+            ArgSummarizers.class.getClassLoader());
+    private static final boolean REACTIVE_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono",
+            ArgSummarizers.class.getClassLoader());
+    /**
+     * 运行时类型没有对应的摘要器
+     */
+    private static final ArgSummarizer NONE = ArgSummarizer.of(Object.class, arg -> arg);
+
+    private final ArgSummarizer[] summarizers;
+    private final ClassValue<ArgSummarizer> byClass = new ClassValue<ArgSummarizer>() {
+        @Override
+        protected ArgSummarizer computeValue(Class<?> type) {
+            ArgSummarizer summarizer = match(type);
+            return summarizer == null ? NONE : summarizer;
+        }
+    };
+    private final ArgSummarizer inspect = ArgSummarizer.of(Object.class,
+            arg -> byClass.get(arg.getClass()).summarize(arg));
+
+    private ArgSummarizers(List<ArgSummarizer> summarizers) {
+        this.summarizers = summarizers.toArray(new ArgSummarizer[0]);
+    }
+
+    /**
+     * @param custom 应用定义的摘要器,优先于内置实现
+     * @return {@link ArgSummarizers}
+     */
+    public static ArgSummarizers create(List<ArgSummarizer> custom) {
+        List<ArgSummarizer> summarizers = new ArrayList<>(custom);
+        BuiltinArgSummarizers.addTo(summarizers);
+        if (SERVLET_PRESENT) {
+            ServletArgSummarizers.addTo(summarizers);
+        }
+        if (REACTIVE_PRESENT) {
+            ReactiveArgSummarizers.addTo(summarizers);
+        }
+        return new ArgSummarizers(summarizers);
+    }
+
+    /**
+     * 按方法签名确定每个参数位的摘要器
+     *
+     * @param method 方法
+     * @return 与参数一一对应,null表示直接序列化
+     */
+    public ArgSummarizer[] plan(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        ArgSummarizer[] plan = new ArgSummarizer[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            plan[i] = plan(parameterTypes[i], method, i);
+        }
+        return plan;
+    }
+
+    /**
+     * 在请求线程上按{@link #plan(Method)}转换参数
+     *
+     * @param plan      {@link #plan(Method)}
+     * @param pointArgs 参数值
+     * @return 参数快照
+     */
+    public static Object[] summarize(ArgSummarizer[] plan, Object[] pointArgs) {
+        if (pointArgs == null) {
+            return null;
+        }
+        Object[] args = pointArgs.clone();
+        for (int i = 0; i < args.length && i < plan.length; i++) {
+            if (plan[i] != null && args[i] != null) {
+                args[i] = summarize(plan[i], args[i]);
+            }
+        }
+        return args;
+    }
+
+    private ArgSummarizer plan(Class<?> type, Method method, int index) {
+        ArgSummarizer summarizer = match(type);
+        if (summarizer != null) {
+            return summarizer;
+        }
+        // 容器只在元素类型明确时逐个转换,不为List<Object>之类的参数在请求线程上遍历
+        if (type.isArray()) {
+            ArgSummarizer element = match(type.getComponentType());
+            return element == null ? null : ArgSummarizer.of(Object[].class, array -> {
+                Object[] summaries = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    summaries[i] = array[i] == null ? null : summarize(element, array[i]);
+                }
+                return summaries;
+            });
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> elementType = ResolvableType.forMethodParameter(method, index).asCollection().resolveGeneric(0);
+            ArgSummarizer element = elementType == null ? null : match(elementType);
+            return element == null ? null : ArgSummarizer.of(Collection.class, collection -> {
+                List<Object> summaries = new ArrayList<>(collection.size());
+                for (Object value : collection) {
+                    summaries.add(value == null ? null : summarize(element, value));
+                }
+                return summaries;
+            });
+        }
+        for (ArgSummarizer candidate : summarizers) {
+            if (type.isAssignableFrom(candidate.type())) {
+                return inspect;
+            }
+        }
+        return null;
+    }
+
+    private ArgSummarizer match(Class<?> type) {
+        for (ArgSummarizer summarizer : summarizers) {
+            if (summarizer.type().isAssignableFrom(type)) {
+                return summarizer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 摘要器出错时只输出类型,不影响请求
+     */
+    private static Object summarize(ArgSummarizer summarizer, Object arg) {
+        try {
+            return summarizer.summarize(arg);
+        } catch (RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("参数摘要出错:{}", arg.getClass().getName(), e);
+            }
+            return BuiltinArgSummarizers.type(arg);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.dousxcoder.logutil.summary;
+
+import org.springframework.core.io.Resource;
+import org.springframework.ui.Model;
+import org.springframework.ui.ModelMap;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channel;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 内置摘要器,只依赖JDK和Spring
+ *
+ * @author dousx
+ * @date 2026-10-19 02:35
+ */
+final class BuiltinArgSummarizers {
+    private BuiltinArgSummarizers() {
+    }
+
+    static void addTo(List<ArgSummarizer> summarizers) {
+        summarizers.add(ArgSummarizer.of(MultipartFile.class, file -> {
+            Map<String, Object> summary = new LinkedHashMap<>(8);
+            summary.put("name", file.getName());
+            summary.put("originalFilename", file.getOriginalFilename());
+            summary.put("contentType", file.getContentType());
+            summary.put("size", file.getSize());
+            return summary;
+        }));
+        summarizers.add(ArgSummarizer.of(byte[].class, BuiltinArgSummarizers::bytes));
+        // 流只记录类型,不读取
+        summarizers.add(ArgSummarizer.of(InputStream.class, BuiltinArgSummarizers::type));
+        summarizers.add(ArgSummarizer.of(OutputStream.class, BuiltinArgSummarizers::type));
+        summarizers.add(ArgSummarizer.of(Reader.class, BuiltinArgSummarizers::type));
+        summarizers.add(ArgSummarizer.of(Writer.class, BuiltinArgSummarizers::type));
+        summarizers.add(ArgSummarizer.of(Channel.class, BuiltinArgSummarizers::type));
+        // contentLength()可能读取文件或发起请求,不调用
+        summarizers.add(ArgSummarizer.of(Resource.class, resource -> {
+            Map<String, Object> summary = type(resource);
+            summary.put("description", resource.getDescription());
+            return summary;
+        }));
+        summarizers.add(ArgSummarizer.of(Errors.class, errors -> {
+            Map<String, Object> summary = new LinkedHashMap<>(4);
+            summary.put("objectName", errors.getObjectName());
+            summary.put("errorCount", errors.getErrorCount());
+            List<String> fields = new ArrayList<>();
+            for (FieldError error : errors.getFieldErrors()) {
+                if (!fields.contains(error.getField())) {
+                    fields.add(error.getField());
+                }
+            }
+            summary.put("fields", fields);
+            return summary;
+        }));
+        // 模型属性可能是任意大的对象,只记录名称
+        summarizers.add(ArgSummarizer.of(Model.class, model -> attributes(model, model.asMap())));
+        summarizers.add(ArgSummarizer.of(ModelMap.class, model -> attributes(model, model)));
+        summarizers.add(ArgSummarizer.of(WebRequest.class, request -> {
+            Map<String, Object> summary = type(request);
+            summary.put("description", request.getDescription(false));
+            return summary;
+        }));
+        // 如Spring Security的Authentication,可能携带凭证
+        summarizers.add(ArgSummarizer.of(Principal.class, principal -> {
+            Map<String, Object> summary = type(principal);
+            summary.put("name", principal.getName());
+            return summary;
+        }));
+    }
+
+    /**
+     * @return 只有类型的摘要,可以继续添加属性
+     */
+    static Map<String, Object> type(Object arg) {
+        Map<String, Object> summary = new LinkedHashMap<>(4);
+        summary.put("type", arg.getClass().getName());
+        return summary;
+    }
+
+    private static Map<String, Object> bytes(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, bytes.length);
+        Map<String, Object> summary = new LinkedHashMap<>(4);
+        summary.put("length", bytes.length);
+        summary.put("crc32", Long.toHexString(crc32.getValue()));
+        return summary;
+    }
+
+    private static Map<String, Object> attributes(Object model, Map<String, ?> attributes) {
+        Map<String, Object> summary = type(model);
+        summary.put("attributes", new ArrayList<>(attributes.keySet()));
+        return summary;
+    }
+}
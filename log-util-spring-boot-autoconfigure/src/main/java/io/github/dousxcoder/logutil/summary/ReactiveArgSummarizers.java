@@ -0,0 +1,51 @@
+package io.github.dousxcoder.logutil.summary;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux的摘要器,单独成类,没有Reactor时不会被加载
+ *
+ * @author dousx
+ * @date 2026-10-19 02:45
+ */
+final class ReactiveArgSummarizers {
+    private ReactiveArgSummarizers() {
+    }
+
+    static void addTo(List<ArgSummarizer> summarizers) {
+        summarizers.add(ArgSummarizer.of(ServerWebExchange.class, exchange -> request(exchange.getRequest(),
+                BuiltinArgSummarizers.type(exchange))));
+        summarizers.add(ArgSummarizer.of(ServerHttpRequest.class, request -> request(request,
+                BuiltinArgSummarizers.type(request))));
+        summarizers.add(ArgSummarizer.of(ServerHttpResponse.class, response -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(response);
+            summary.put("status", response.getRawStatusCode());
+            return summary;
+        }));
+        // 内容是尚未订阅的DataBuffer流,只记录头部信息
+        summarizers.add(ArgSummarizer.of(Part.class, part -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(part);
+            summary.put("name", part.name());
+            if (part instanceof FilePart) {
+                summary.put("filename", ((FilePart) part).filename());
+            }
+            MediaType contentType = part.headers().getContentType();
+            summary.put("contentType", contentType == null ? null : contentType.toString());
+            return summary;
+        }));
+    }
+
+    private static Map<String, Object> request(ServerHttpRequest request, Map<String, Object> summary) {
+        summary.put("method", request.getMethodValue());
+        summary.put("uri", request.getPath().value());
+        return summary;
+    }
+}
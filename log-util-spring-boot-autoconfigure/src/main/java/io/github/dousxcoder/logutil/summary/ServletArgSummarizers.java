@@ -0,0 +1,57 @@
+package io.github.dousxcoder.logutil.summary;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.Part;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servlet API的摘要器,单独成类,没有Servlet API时不会被加载
+ * <br/>
+ * 请求、响应对象在请求结束后被容器回收,只能在请求线程上读取
+ *
+ * @author dousx
+ * @date 2026-10-19 02:40
+ */
+final class ServletArgSummarizers {
+    private ServletArgSummarizers() {
+    }
+
+    static void addTo(List<ArgSummarizer> summarizers) {
+        summarizers.add(ArgSummarizer.of(ServletRequest.class, request -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(request);
+            if (request instanceof HttpServletRequest) {
+                summary.put("method", ((HttpServletRequest) request).getMethod());
+                summary.put("uri", ((HttpServletRequest) request).getRequestURI());
+            }
+            summary.put("contentType", request.getContentType());
+            summary.put("contentLength", request.getContentLengthLong());
+            return summary;
+        }));
+        summarizers.add(ArgSummarizer.of(ServletResponse.class, response -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(response);
+            if (response instanceof HttpServletResponse) {
+                summary.put("status", ((HttpServletResponse) response).getStatus());
+            }
+            summary.put("contentType", response.getContentType());
+            return summary;
+        }));
+        summarizers.add(ArgSummarizer.of(HttpSession.class, session -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(session);
+            summary.put("id", session.getId());
+            return summary;
+        }));
+        summarizers.add(ArgSummarizer.of(Part.class, part -> {
+            Map<String, Object> summary = BuiltinArgSummarizers.type(part);
+            summary.put("name", part.getName());
+            summary.put("submittedFileName", part.getSubmittedFileName());
+            summary.put("contentType", part.getContentType());
+            summary.put("size", part.getSize());
+            return summary;
+        }));
+    }
+}
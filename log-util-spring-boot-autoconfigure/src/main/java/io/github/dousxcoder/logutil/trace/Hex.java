@@ -0,0 +1,40 @@
+package io.github.dousxcoder.logutil.trace;
+
+/**
+ * 小写十六进制
+ *
+ * @author dousx
+ * @date 2026-10-18 21:35
+ */
+final class Hex {
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private Hex() {
+    }
+
+    /**
+     * 写入value的低digits个十六进制位,高位补0
+     */
+    static void write(long value, char[] out, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * @return 全部为十六进制字符且不全为0
+     */
+    static boolean isValidId(String value, int start, int end) {
+        boolean nonZero = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F') {
+                nonZero |= c != '0';
+            } else {
+                return false;
+            }
+        }
+        return nonZero;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.dousxcoder.logutil.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 128位随机数,32位小写十六进制,不全为0
+ *
+ * @author dousx
+ * @date 2026-10-18 21:35
+ */
+public class RandomTraceIdGenerator implements TraceIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while (high == 0L && low == 0L);
+        char[] chars = new char[32];
+        Hex.write(high, chars, 0, 16);
+        Hex.write(low, chars, 16, 16);
+        return new String(chars);
+    }
+}
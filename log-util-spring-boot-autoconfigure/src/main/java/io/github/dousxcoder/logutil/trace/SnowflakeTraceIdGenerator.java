@@ -0,0 +1,56 @@
+package io.github.dousxcoder.logutil.trace;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 64位雪花ID:41位毫秒时间(从2020-01-01起)、10位节点、12位序号,输出16位小写十六进制,字符串顺序与时间顺序一致
+ * <br/>
+ * 同一毫秒序号用完或时钟回拨时借用后面的毫秒,不等待,保证单节点内唯一且递增
+ *
+ * @author dousx
+ * @date 2026-10-18 21:45
+ */
+public class SnowflakeTraceIdGenerator implements TraceIdGenerator {
+    public static final int NODE_BITS = 10;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    /**
+     * 2020-01-01T00:00:00Z
+     */
+    private static final long EPOCH = 1577836800000L;
+
+    private final long node;
+    /**
+     * 上一个ID的时间和序号:time << SEQUENCE_BITS | sequence
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param nodeId 节点,0~{@link #MAX_NODE_ID}
+     */
+    public SnowflakeTraceIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId必须在0~" + MAX_NODE_ID + "之间: " + nodeId);
+        }
+        this.node = nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public String generate() {
+        char[] chars = new char[16];
+        Hex.write(nextId(), chars, 0, 16);
+        return new String(chars);
+    }
+
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH;
+        for (; ; ) {
+            long previous = state.get();
+            long next = now > previous >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | node | next & SEQUENCE_MASK;
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.dousxcoder.logutil.trace;
+
+import io.github.dousxcoder.logutil.constant.LogConstant;
+import org.slf4j.MDC;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 链路上下文
+ * <br/>
+ * 不可变,保存在线程变量中;跨线程传递时只复制引用,不调用{@link MDC#getCopyOfContextMap()}。
+ * MDC中只同步{@link LogConstant#TRACE_ID}一个key,供日志pattern中的%X{TRACE_ID}使用,上下文未变化时不写MDC
+ * <pre>
+ * TraceContext previous = TraceContext.attach(context);
+ * try {
+ *     ...
+ * } finally {
+ *     TraceContext.restore(previous);
+ * }
+ * </pre>
+ *
+ * @author dousx
+ * @date 2026-10-18 21:00
+ */
+public final class TraceContext {
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+
+    private TraceContext(String traceId) {
+        this.traceId = traceId;
+    }
+
+    /**
+     * @param traceId traceId
+     * @return traceId为null时返回null
+     */
+    public static TraceContext of(String traceId) {
+        return traceId == null ? null : new TraceContext(traceId);
+    }
+
+    /**
+     * @return 当前线程的上下文,没有时返回null
+     */
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 当前线程的上下文,没有时读取应用自己放入MDC的traceId
+     *
+     * @return 没有时返回null
+     */
+    public static TraceContext capture() {
+        TraceContext context = CURRENT.get();
+        return context != null ? context : of(MDC.get(LogConstant.TRACE_ID));
+    }
+
+    /**
+     * 设置当前线程的上下文
+     *
+     * @param context 上下文,null表示清除
+     * @return 之前的上下文,交给{@link #restore}
+     */
+    public static TraceContext attach(TraceContext context) {
+        TraceContext previous = CURRENT.get();
+        if (previous != context) {
+            set(context, previous);
+        }
+        return previous;
+    }
+
+    /**
+     * 恢复{@link #attach}之前的上下文
+     *
+     * @param previous {@link #attach}的返回值
+     */
+    public static void restore(TraceContext previous) {
+        TraceContext current = CURRENT.get();
+        if (current != previous) {
+            set(previous, current);
+        }
+    }
+
+    private static void set(TraceContext context, TraceContext replaced) {
+        if (context == null) {
+            CURRENT.remove();
+            MDC.remove(LogConstant.TRACE_ID);
+            return;
+        }
+        CURRENT.set(context);
+        if (replaced == null || !Objects.equals(replaced.traceId, context.traceId)) {
+            MDC.put(LogConstant.TRACE_ID, context.traceId);
+        }
+    }
+
+    /**
+     * 在当前上下文中执行,提交时调用
+     *
+     * @param task 任务
+     * @return 当前没有上下文时返回原任务
+     */
+    public static Runnable wrap(Runnable task) {
+        TraceContext context = capture();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            TraceContext previous = attach(context);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * @see #wrap(Runnable)
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        TraceContext context = capture();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            TraceContext previous = attach(context);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 用于{@code CompletableFuture.supplyAsync}
+     *
+     * @see #wrap(Runnable)
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        TraceContext context = capture();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            TraceContext previous = attach(context);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    @Override
+    public String toString() {
+        return traceId;
+    }
+}
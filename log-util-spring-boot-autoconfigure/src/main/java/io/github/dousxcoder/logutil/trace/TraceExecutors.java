@@ -0,0 +1,140 @@
+package io.github.dousxcoder.logutil.trace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 包装应用自己的执行器,提交时传递{@link TraceContext}
+ * <pre>
+ * Executor executor = TraceExecutors.wrap(Executors.newFixedThreadPool(4));
+ * CompletableFuture.supplyAsync(supplier, executor);
+ * </pre>
+ *
+ * @author dousx
+ * @date 2026-10-18 21:10
+ */
+public final class TraceExecutors {
+    private TraceExecutors() {
+    }
+
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ExecutorService) {
+            return wrap((ExecutorService) executor);
+        }
+        if (executor instanceof TracingExecutor) {
+            return executor;
+        }
+        return new TracingExecutor(executor);
+    }
+
+    public static ExecutorService wrap(ExecutorService executorService) {
+        if (executorService instanceof TracingExecutorService) {
+            return executorService;
+        }
+        return new TracingExecutorService(executorService);
+    }
+
+    private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(TraceContext.wrap(task));
+        }
+        return wrapped;
+    }
+
+    private static final class TracingExecutor implements Executor {
+        private final Executor delegate;
+
+        private TracingExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(TraceContext.wrap(command));
+        }
+    }
+
+    private static final class TracingExecutorService implements ExecutorService {
+        private final ExecutorService delegate;
+
+        private TracingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(TraceContext.wrap(command));
+        }
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            return delegate.submit(TraceContext.wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(Runnable task, T result) {
+            return delegate.submit(TraceContext.wrap(task), result);
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            return delegate.submit(TraceContext.wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+                throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
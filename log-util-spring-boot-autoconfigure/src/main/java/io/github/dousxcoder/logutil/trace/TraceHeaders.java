@@ -0,0 +1,109 @@
+package io.github.dousxcoder.logutil.trace;
+
+import io.github.dousxcoder.logutil.constant.LogConstant;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 从请求头中读取上游的traceId,依次检查{@link LogConstant#TRACE_ID}、W3C traceparent、B3单头和多头
+ *
+ * @author dousx
+ * @date 2026-10-18 21:50
+ */
+public final class TraceHeaders {
+    public static final String TRACEPARENT = "traceparent";
+    public static final String B3 = "b3";
+    public static final String B3_TRACE_ID = "X-B3-TraceId";
+    /**
+     * 00-{trace-id 32}-{parent-id 16}-{flags 2}
+     */
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private TraceHeaders() {
+    }
+
+    /**
+     * @param headers 按名称读取请求头
+     * @return traceId,没有或格式不正确时返回null
+     */
+    public static String extract(Function<String, String> headers) {
+        String traceId = headers.apply(LogConstant.TRACE_ID);
+        if (traceId != null && !traceId.isEmpty()) {
+            return traceId;
+        }
+        traceId = traceparent(headers.apply(TRACEPARENT));
+        if (traceId != null) {
+            return traceId;
+        }
+        traceId = b3(headers.apply(B3));
+        if (traceId != null) {
+            return traceId;
+        }
+        return b3TraceId(headers.apply(B3_TRACE_ID));
+    }
+
+    /**
+     * @param value traceparent
+     * @return trace-id,格式不正确时返回null
+     */
+    public static String traceparent(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        int length = value.length();
+        if (length < TRACEPARENT_LENGTH || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-') {
+            return null;
+        }
+        // 版本ff无效;00必须正好55位,更高版本允许追加字段
+        if (!isHex(value, 0, 2) || value.regionMatches(true, 0, "ff", 0, 2)) {
+            return null;
+        }
+        if (length > TRACEPARENT_LENGTH && (value.startsWith("00") || value.charAt(TRACEPARENT_LENGTH) != '-')) {
+            return null;
+        }
+        if (!Hex.isValidId(value, 3, 35) || !Hex.isValidId(value, 36, 52) || !isHex(value, 53, 55)) {
+            return null;
+        }
+        return value.substring(3, 35).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param value b3单头:{TraceId}-{SpanId}[-{SamplingState}[-{ParentSpanId}]],只有采样标记时没有traceId
+     * @return TraceId,格式不正确时返回null
+     */
+    public static String b3(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        int dash = value.indexOf('-');
+        return dash < 0 ? null : b3TraceId(value.substring(0, dash));
+    }
+
+    /**
+     * @param value X-B3-TraceId,16或32位十六进制
+     * @return TraceId,格式不正确时返回null
+     */
+    public static String b3TraceId(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        int length = value.length();
+        if (length != 16 && length != 32 || !Hex.isValidId(value, 0, length)) {
+            return null;
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isHex(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.dousxcoder.logutil.trace;
+
+/**
+ * 生成traceId,请求未携带traceId时由{@code TraceIdInterceptor}调用
+ * <br/>
+ * 会被多个请求线程同时调用;应用定义了该类型的Bean时替换内置实现
+ *
+ * @author dousx
+ * @date 2026-10-18 21:30
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+    String NAME = "cruder_traceIdGenerator";
+
+    /**
+     * @return traceId
+     */
+    String generate();
+}
@@ -0,0 +1,39 @@
+package io.github.dousxcoder.logutil.trace;
+
+import io.github.dousxcoder.logutil.enums.TraceIdType;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 创建内置的{@link TraceIdGenerator}
+ *
+ * @author dousx
+ * @date 2026-10-18 21:55
+ */
+public final class TraceIdGenerators {
+    private TraceIdGenerators() {
+    }
+
+    public static TraceIdGenerator create(LogProperties.Trace properties) {
+        TraceIdType type = properties.getIdType();
+        if (TraceIdType.RANDOM.equals(type)) {
+            return new RandomTraceIdGenerator();
+        }
+        if (TraceIdType.W3C.equals(type)) {
+            return new W3cTraceIdGenerator();
+        }
+        if (TraceIdType.SNOWFLAKE.equals(type)) {
+            long nodeId = properties.getNodeId();
+            return new SnowflakeTraceIdGenerator(nodeId < 0 ? defaultNodeId() : nodeId);
+        }
+        return new UuidTraceIdGenerator();
+    }
+
+    /**
+     * 未配置节点时取"pid@hostname"的哈希,多实例部署时应显式配置避免冲突
+     */
+    private static long defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName().hashCode() & SnowflakeTraceIdGenerator.MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.dousxcoder.logutil.trace;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 把提交线程的{@link TraceContext}带到执行线程
+ * <br/>
+ * 注册为Bean后,Spring Boot自动应用到applicationTaskExecutor(应用的{@code @Async});
+ * 自定义的ThreadPoolTaskExecutor可以通过setTaskDecorator使用
+ *
+ * @author dousx
+ * @date 2026-10-18 21:05
+ */
+public class TraceTaskDecorator implements TaskDecorator {
+    public static final String NAME = "cruder_traceTaskDecorator";
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TraceContext.wrap(runnable);
+    }
+}
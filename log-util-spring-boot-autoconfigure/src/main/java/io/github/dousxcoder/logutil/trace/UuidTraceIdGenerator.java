@@ -0,0 +1,21 @@
+package io.github.dousxcoder.logutil.trace;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 与{@link UUID#randomUUID()}相同的version 4格式,随机数取自ThreadLocalRandom,不经过共享的SecureRandom
+ *
+ * @author dousx
+ * @date 2026-10-18 21:40
+ */
+public class UuidTraceIdGenerator implements TraceIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = random.nextLong() & ~0xF000L | 0x4000L;
+        long leastSigBits = random.nextLong() & ~(0xC000000000000000L) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
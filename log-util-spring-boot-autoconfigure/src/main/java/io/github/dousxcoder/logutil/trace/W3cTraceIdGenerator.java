@@ -0,0 +1,22 @@
+package io.github.dousxcoder.logutil.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C traceparent的trace-id格式(32位小写十六进制),前8位为秒级时间戳,按时间大致有序,后24位随机
+ *
+ * @author dousx
+ * @date 2026-10-18 21:40
+ */
+public class W3cTraceIdGenerator implements TraceIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] chars = new char[32];
+        Hex.write(System.currentTimeMillis() / 1000L, chars, 0, 8);
+        Hex.write(random.nextInt(), chars, 8, 8);
+        Hex.write(random.nextLong(), chars, 16, 16);
+        return new String(chars);
+    }
+}
@@ -2,11 +2,16 @@ package io.github.dousxcoder.logutil.utils;
 
 import io.github.dousxcoder.logutil.enums.DatePattern;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
+ * 按{@link DatePattern#NORM_DATETIME_MS_PATTERN}格式化时间
+ * <br/>
+ * 无锁:缓存最近一秒的"yyyy-MM-dd HH:mm:ss"前缀,同一秒内只追加毫秒;前缀变化时用线程安全的{@link DateTimeFormatter}重新生成
+ *
  * @author dousx
  * @date 2022-07-02 14:47
  */
@@ -14,9 +19,57 @@ public final class DateFormatUtil {
     private DateFormatUtil() {
     }
 
-    private final static DateFormat SIMPLE_DATE_FORMAT = new SimpleDateFormat(DatePattern.NORM_DATETIME_MS_PATTERN.pattern());
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter
+            .ofPattern(DatePattern.NORM_DATETIME_PATTERN.pattern())
+            .withZone(ZONE);
 
-    public synchronized static String format(Date date) {
-        return SIMPLE_DATE_FORMAT.format(date);
+    /**
+     * 最近一次格式化的秒,整体替换,读取方拿到的前缀和秒一定对应
+     */
+    private static volatile CachedSecond cached = new CachedSecond(Long.MIN_VALUE, "");
+
+    public static String format(Date date) {
+        return format(date.getTime());
+    }
+
+    public static String format(long epochMillis) {
+        StringBuilder sb = new StringBuilder(DatePattern.NORM_DATETIME_MS_PATTERN.pattern().length());
+        formatTo(sb, epochMillis);
+        return sb.toString();
+    }
+
+    /**
+     * 直接追加到输出缓冲区,不生成中间字符串
+     *
+     * @param sb          输出缓冲区
+     * @param epochMillis 毫秒时间戳
+     */
+    public static void formatTo(StringBuilder sb, long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        CachedSecond current = cached;
+        if (current.second != second) {
+            current = new CachedSecond(second, SECOND_FORMATTER.format(Instant.ofEpochSecond(second)));
+            cached = current;
+        }
+        sb.append(current.prefix).append('.');
+        if (millis < 100) {
+            sb.append('0');
+        }
+        if (millis < 10) {
+            sb.append('0');
+        }
+        sb.append(millis);
+    }
+
+    private static final class CachedSecond {
+        private final long second;
+        private final String prefix;
+
+        private CachedSecond(long second, String prefix) {
+            this.second = second;
+            this.prefix = prefix;
+        }
     }
 }
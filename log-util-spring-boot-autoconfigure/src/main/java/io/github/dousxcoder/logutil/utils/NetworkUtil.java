@@ -3,6 +3,7 @@ package io.github.dousxcoder.logutil.utils;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.function.Function;
 
 /**
  * @Author: cruder
@@ -23,23 +24,34 @@ public class NetworkUtil {
      * @return ip
      */
     public static String getIpAddress(HttpServletRequest request) {
+        return getIpAddress(request::getHeader, request.getRemoteAddr());
+    }
+
+    /**
+     * 不依赖Servlet API,WebFlux中使用
+     *
+     * @param headers    按名称读取请求头
+     * @param remoteAddr 连接的对端地址
+     * @return ip
+     */
+    public static String getIpAddress(Function<String, String> headers, String remoteAddr) {
         // 获取请求主机IP地址,如果通过代理进来，则透过防火墙获取真实IP地址
-        String ip = request.getHeader("X-Forwarded-For");
+        String ip = headers.apply("X-Forwarded-For");
         if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
             if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
-                ip = request.getHeader("Proxy-Client-IP");
+                ip = headers.apply("Proxy-Client-IP");
             }
             if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
-                ip = request.getHeader("WL-Proxy-Client-IP");
+                ip = headers.apply("WL-Proxy-Client-IP");
             }
             if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
-                ip = request.getHeader("HTTP_CLIENT_IP");
+                ip = headers.apply("HTTP_CLIENT_IP");
             }
             if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
-                ip = request.getHeader("HTTP_X_FORWARDED_FOR");
+                ip = headers.apply("HTTP_X_FORWARDED_FOR");
             }
             if (ip == null || ip.length() == 0 || UNKNOWN.equalsIgnoreCase(ip)) {
-                ip = request.getRemoteAddr();
+                ip = remoteAddr;
             }
         } else if (ip.length() > 15) {
             String[] ips = ip.split(",");
@@ -0,0 +1,31 @@
+package io.github.dousxcoder.logutil.utils;
+
+import org.springframework.util.ClassUtils;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 判断当前线程是否不允许阻塞,如Reactor Netty的事件循环线程
+ *
+ * @author dousx
+ * @date 2026-10-18 23:20
+ */
+public final class NonBlockingThreads {
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.scheduler.Schedulers",
+            NonBlockingThreads.class.getClassLoader());
+
+    private NonBlockingThreads() {
+    }
+
+    /**
+     * @return 没有Reactor时总是false
+     */
+    public static boolean isCurrentThreadNonBlocking() {
+        return REACTOR_PRESENT && Reactor.isInNonBlockingThread();
+    }
+
+    private static final class Reactor {
+        private static boolean isInNonBlockingThread() {
+            return Schedulers.isInNonBlockingThread();
+        }
+    }
+}
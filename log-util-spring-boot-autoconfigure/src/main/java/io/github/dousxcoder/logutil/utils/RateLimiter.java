@@ -0,0 +1,48 @@
+package io.github.dousxcoder.logutil.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶限流(GCRA)
+ * <br/>
+ * 只保存一个理论到达时间,CAS推进,无锁也不需要后台线程补充令牌;允许突发一秒的量
+ *
+ * @author dousx
+ * @date 2026-10-18 16:55
+ */
+public final class RateLimiter {
+    private final long emissionNanos;
+    private final long burstNanos;
+    /**
+     * 理论到达时间
+     */
+    private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+    public RateLimiter(int permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must > 0");
+        }
+        this.emissionNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burstNanos = TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * 获取一个令牌
+     *
+     * @return false 超出速率
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = tat.get();
+            long next = (current == Long.MIN_VALUE || current - now < 0 ? now : current) + emissionNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.dousxcoder.logutil.codec;
+
+import io.github.dousxcoder.logutil.annotation.AopLogger;
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.enums.TimeFormat;
+import io.github.dousxcoder.logutil.error.ExceptionFingerprints;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.LogSpan;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.properties.LogProperties;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import io.github.dousxcoder.logutil.serializer.LogSerializers;
+import io.github.dousxcoder.logutil.service.MethodLogMetaCache;
+import io.github.dousxcoder.logutil.summary.ArgSummarizers;
+import io.github.dousxcoder.logutil.trace.TraceContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 编解码测试共用的方法和事件
+ *
+ * @author dousx
+ * @date 2026-10-19 03:50
+ */
+public final class CodecFixtures {
+    private static final MethodLogMetaCache META_CACHE;
+
+    static {
+        LogProperties properties = new LogProperties();
+        META_CACHE = new MethodLogMetaCache(properties.getLimits(), properties.getSampling(), properties.getStats(),
+                ArgSummarizers.create(Collections.emptyList()));
+    }
+
+    private CodecFixtures() {
+    }
+
+    /**
+     * 每次返回新的实例,异常指纹从首次出现开始计数
+     */
+    public static LogJsonWriter writer(SerializerType type) {
+        return new LogJsonWriter(TimeFormat.DATETIME, null, LogSerializers.create(type, ObjectMapper::new),
+                new ExceptionFingerprints(new LogProperties.Errors()));
+    }
+
+    public static MethodLogMeta meta(String name) {
+        try {
+            return META_CACHE.get(Service.class.getMethod(name, String.class, Order.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(name, e);
+        }
+    }
+
+    /**
+     * 溢出记录按methodKey定位方法
+     */
+    public static MethodLogMeta byMethodKey(String methodKey) {
+        for (String name : new String[]{"save", "load"}) {
+            MethodLogMeta meta = meta(name);
+            if (meta.getMethodKey().equals(methodKey)) {
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    public static LogEvent event(boolean spans, boolean error) {
+        MethodLogMeta meta = meta("save");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ok", !error);
+        result.put("order", new Order(7L, "中文 \"quoted\""));
+        LogEvent.LogEventBuilder builder = LogEvent.builder()
+                .meta(meta)
+                .args(new Object[]{"a1", new Order(1L, null)})
+                .result(result)
+                .uri("/orders")
+                .httpMethod("POST")
+                .ip("127.0.0.1")
+                .trace(TraceContext.of("trace-1"))
+                .startTime(1_700_000_000_000L)
+                .endTime(1_700_000_000_015L);
+        if (spans) {
+            builder.spans(Collections.singletonList(LogSpan.builder()
+                            .meta(meta("load"))
+                            .args(new Object[]{"a2", null})
+                            .offsetNanos(1_000L)
+                            .durationNanos(2_000_000L)
+                            .build()))
+                    .droppedSpans(2);
+        }
+        if (error) {
+            builder.error(new IllegalStateException("boom"));
+        }
+        return builder.build();
+    }
+
+    public static class Service {
+        @AopLogger(describe = "保存")
+        public Order save(String id, Order order) {
+            return order;
+        }
+
+        @AopLogger(describe = "加载")
+        public Order load(String id, Order order) {
+            return order;
+        }
+    }
+
+    public static class Order {
+        private final Long id;
+        private final String name;
+
+        public Order(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
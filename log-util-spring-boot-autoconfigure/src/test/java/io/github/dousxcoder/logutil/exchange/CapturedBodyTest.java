@@ -0,0 +1,41 @@
+package io.github.dousxcoder.logutil.exchange;
+
+import io.github.dousxcoder.logutil.codec.CodecFixtures;
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 截取的报文按字符串输出,与序列化器无关
+ *
+ * @author dousx
+ * @date 2026-10-19 04:00
+ */
+class CapturedBodyTest {
+
+    @ParameterizedTest
+    @EnumSource(SerializerType.class)
+    void writeBodies(SerializerType type) {
+        CapturedBody requestBody = new CapturedBody("{\"a\":1}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8, 5, null);
+        CapturedBody responseBody = new CapturedBody(null, null, 0, CapturedBody.Skipped.BINARY);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", 200);
+        result.put("body", responseBody);
+        String line = CodecFixtures.writer(type).write(LogEvent.builder()
+                .meta(CodecFixtures.meta("save"))
+                .args(new Object[]{"q=1", requestBody})
+                .result(result)
+                .build());
+
+        assertTrue(line.contains("\"order\":\"{\\\"a\\\":1}...(5 more)\""), line);
+        assertTrue(line.contains("\"body\":\"(binary body not captured)\""), line);
+    }
+}
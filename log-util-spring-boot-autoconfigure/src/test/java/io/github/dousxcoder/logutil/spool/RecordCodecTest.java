@@ -0,0 +1,138 @@
+package io.github.dousxcoder.logutil.spool;
+
+import io.github.dousxcoder.logutil.codec.BinaryLogCodec;
+import io.github.dousxcoder.logutil.codec.CodecFixtures;
+import io.github.dousxcoder.logutil.enums.SerializerType;
+import io.github.dousxcoder.logutil.pojo.LogEvent;
+import io.github.dousxcoder.logutil.pojo.MethodLogMeta;
+import io.github.dousxcoder.logutil.serializer.LogJsonWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 二进制记录和溢出记录:encode → decode → writeRecord 与直接输出的记录一致,较早的记录按没有新增字段读取
+ *
+ * @author dousx
+ * @date 2026-10-19 03:50
+ */
+class RecordCodecTest {
+    /**
+     * 记录末尾为 spans(4) droppedSpans(4) error(4),去掉4字节为没有异常的记录,去掉12字节为没有嵌套调用和异常的记录
+     */
+    private static final int[] OLD_RECORD_TRAILING = {4, 12};
+
+    static Stream<Arguments> codecs() {
+        return Arrays.stream(Codec.values())
+                .flatMap(codec -> Arrays.stream(SerializerType.values()).map(type -> Arguments.of(codec, type)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTrip(Codec codec, SerializerType type) throws Exception {
+        for (boolean spans : new boolean[]{false, true}) {
+            for (boolean error : new boolean[]{false, true}) {
+                LogEvent event = CodecFixtures.event(spans, error);
+                String expected = CodecFixtures.writer(type).writeRecord(event);
+                assertEquals(spans, expected.contains("\"spans\":[{"));
+                assertEquals(error, expected.contains("\"stackTrace\""));
+                LogJsonWriter writer = CodecFixtures.writer(type);
+
+                byte[] record = codec.encode(event, writer);
+                LogEvent decoded = codec.decode(record, record.length, event.getMeta());
+                assertEquals(expected, writer.writeRecord(decoded), "spans=" + spans + " error=" + error);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void readOldRecord(Codec codec, SerializerType type) throws Exception {
+        LogEvent event = CodecFixtures.event(false, false);
+        LogJsonWriter writer = CodecFixtures.writer(type);
+        byte[] record = codec.encode(event, writer);
+        String expected = writer.writeRecord(codec.decode(record, record.length, event.getMeta()));
+
+        for (int trailing : OLD_RECORD_TRAILING) {
+            LogEvent decoded = codec.decode(record, record.length - trailing, event.getMeta());
+            assertNull(decoded.getSpans());
+            assertNull(decoded.getError());
+            assertEquals(expected, writer.writeRecord(decoded), "trailing=" + trailing);
+        }
+    }
+
+    @Test
+    void skipUnknownSpoolMethodOrVersion() throws Exception {
+        byte[] payload = SpoolCodec.encode(CodecFixtures.event(true, true), CodecFixtures.writer(SerializerType.FASTJSON));
+        assertNull(SpoolCodec.decode(ByteBuffer.wrap(payload), methodKey -> null));
+        payload[0]++;
+        assertNull(SpoolCodec.decode(ByteBuffer.wrap(payload), CodecFixtures::byMethodKey));
+    }
+
+    enum Codec {
+        /**
+         * 事件记录,方法从方法记录还原
+         */
+        BINARY {
+            @Override
+            byte[] encode(LogEvent event, LogJsonWriter writer) throws IOException {
+                return BinaryLogCodec.eventRecord(event, writer);
+            }
+
+            @Override
+            LogEvent decode(byte[] record, int length, MethodLogMeta meta) throws IOException {
+                ByteBuffer method = ByteBuffer.wrap(BinaryLogCodec.methodRecord(meta));
+                assertEquals(BinaryLogCodec.METHOD, method.get());
+                assertEquals(method.remaining() - 4, method.getInt());
+                MethodLogMeta recovered = BinaryLogCodec.readMethod(method);
+                assertFalse(method.hasRemaining());
+                assertEquals(meta.getMethodKey(), recovered.getMethodKey());
+
+                ByteBuffer in = ByteBuffer.wrap(record, 0, length);
+                assertEquals(BinaryLogCodec.EVENT, in.get());
+                assertEquals(record.length - BinaryLogCodec.RECORD_HEADER, in.getInt());
+                assertEquals(meta.getId(), in.getInt());
+                LogEvent event = BinaryLogCodec.readEvent(in, recovered);
+                assertFalse(in.hasRemaining());
+                return event;
+            }
+        },
+        /**
+         * 按methodKey定位当前进程中的方法
+         */
+        SPOOL {
+            @Override
+            byte[] encode(LogEvent event, LogJsonWriter writer) throws IOException {
+                return SpoolCodec.encode(event, writer);
+            }
+
+            @Override
+            LogEvent decode(byte[] record, int length, MethodLogMeta meta) {
+                ByteBuffer in = ByteBuffer.wrap(record, 0, length);
+                LogEvent event = SpoolCodec.decode(in, CodecFixtures::byMethodKey);
+                assertFalse(in.hasRemaining());
+                assertSame(meta, event.getMeta());
+                return event;
+            }
+        },
+        ;
+
+        abstract byte[] encode(LogEvent event, LogJsonWriter writer) throws IOException;
+
+        /**
+         * @param length 只读取前length个字节,模拟较早的记录
+         */
+        abstract LogEvent decode(byte[] record, int length, MethodLogMeta meta) throws IOException;
+    }
+}